@@ -0,0 +1,69 @@
+package com.eunseok.payment;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The real application context (no web server) on a throwaway Postgres,
+ * for benchmarks that need actual SQL round trips. Needs Docker, unless
+ * -Dbenchmark.jdbc-url (with -Dbenchmark.db-username, -Dbenchmark.db-password)
+ * points at another database; benchmarks write to it, so use a scratch one.
+ */
+public final class PostgresBackedApplication implements AutoCloseable {
+    private final PostgreSQLContainer postgres;
+    private final ConfigurableApplicationContext context;
+
+    private PostgresBackedApplication(PostgreSQLContainer postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    public static PostgresBackedApplication start(Map<String, Object> properties) {
+        Map<String, Object> all = new HashMap<>(properties);
+        // a nightly run over the benchmark's tables would compete with the measured calls
+        all.putIfAbsent("payment.reconciliation.enabled", false);
+        PostgreSQLContainer postgres = null;
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        if (jdbcUrl != null) {
+            all.put("spring.datasource.url", jdbcUrl);
+            all.put("spring.datasource.username", System.getProperty("benchmark.db-username", "postgres"));
+            all.put("spring.datasource.password", System.getProperty("benchmark.db-password", ""));
+        } else {
+            postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:16"));
+            postgres.start();
+            all.put("spring.datasource.url", postgres.getJdbcUrl());
+            all.put("spring.datasource.username", postgres.getUsername());
+            all.put("spring.datasource.password", postgres.getPassword());
+        }
+
+        // as command line arguments: default properties would lose to application.properties
+        String[] args = all.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PaymentServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+        return new PostgresBackedApplication(postgres, context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (postgres != null) postgres.stop();
+    }
+}
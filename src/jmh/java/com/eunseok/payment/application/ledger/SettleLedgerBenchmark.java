@@ -0,0 +1,77 @@
+package com.eunseok.payment.application.ledger;
+
+import com.eunseok.payment.PostgresBackedApplication;
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.application.service.PaymentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What ledger postings add to settle: the same settle with
+ * payment.ledger.enabled on and off, on Postgres with a growing ledger.
+ *
+ * Each iteration seeds a pool of AUTHORIZED payments with one INSERT ... SELECT;
+ * every settle consumes one. Needs Docker (Testcontainers), or
+ * -Dbenchmark.jdbc-url, see PostgresBackedApplication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class SettleLedgerBenchmark {
+    private static final int POOL_SIZE = 200_000;
+
+    @Param({"true", "false"})
+    public boolean ledgerEnabled;
+
+    private PostgresBackedApplication app;
+    private PaymentService paymentService;
+    private final ConcurrentLinkedQueue<String> authorized = new ConcurrentLinkedQueue<>();
+    private String trial;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = PostgresBackedApplication.start(Map.of("payment.ledger.enabled", ledgerEnabled));
+        paymentService = app.bean(PaymentService.class);
+        // trials may share a database (-Dbenchmark.jdbc-url)
+        trial = Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    @Setup(Level.Iteration)
+    public void seedAuthorizedPayments() {
+        String prefix = "bench-" + trial + "-" + (iteration++) + "-";
+        authorized.clear();
+        app.jdbc().update("""
+                INSERT INTO idempotency_keys (idempotency_key, request_hash, status)
+                SELECT ? || g, repeat('0', 64), 'SUCCEEDED' FROM generate_series(1, ?) g
+                """, prefix, POOL_SIZE);
+        app.jdbc().update("""
+                INSERT INTO payments (payment_id, idempotency_key, payment_method, amount, currency, status)
+                SELECT ? || g, ? || g, 'CARD', 1000, 'CAD', 'AUTHORIZED' FROM generate_series(1, ?) g
+                """, prefix, prefix, POOL_SIZE);
+        for (int i = 1; i <= POOL_SIZE; i++) {
+            authorized.add(prefix + i);
+        }
+    }
+
+    @Benchmark
+    public PaymentResponse settle() {
+        String paymentId = authorized.poll();
+        if (paymentId == null) {
+            throw new IllegalStateException("AUTHORIZED pool exhausted; raise POOL_SIZE");
+        }
+        return paymentService.settle(paymentId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+    }
+}
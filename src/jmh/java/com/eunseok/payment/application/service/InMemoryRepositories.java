@@ -0,0 +1,252 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.application.cache.IdempotencyCacheProperties;
+import com.eunseok.payment.application.cache.IdempotencyResponseCache;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache;
+import com.eunseok.payment.application.cache.PaymentSnapshotCacheProperties;
+import com.eunseok.payment.application.ledger.LedgerPostingEngine;
+import com.eunseok.payment.application.ledger.LedgerProperties;
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
+import com.eunseok.payment.domain.model.PaymentEventType;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.datasource.ReadYourWrites;
+import com.eunseok.payment.infra.datasource.ReplicaProperties;
+import com.eunseok.payment.infra.persistence.entity.IdempotencyKeyEntity;
+import com.eunseok.payment.infra.persistence.entity.LedgerEntryEntity;
+import com.eunseok.payment.infra.persistence.entity.PaymentEntity;
+import com.eunseok.payment.infra.persistence.entity.PaymentEventEntity;
+import com.eunseok.payment.infra.persistence.jdbc.AccountBalanceJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentEventJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import com.eunseok.payment.infra.persistence.repository.IdempotencyKeyRepository;
+import com.eunseok.payment.infra.persistence.repository.LedgerEntryRepository;
+import com.eunseok.payment.infra.persistence.repository.PaymentEventRepository;
+import com.eunseok.payment.infra.persistence.repository.PaymentRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * In-memory stand-ins for the JPA repositories used by {@link PaymentService}.
+ *
+ * Only the methods the service actually calls are implemented; anything else
+ * throws, so a benchmark silently hitting an unexpected repository method
+ * shows up immediately instead of measuring a no-op.
+ */
+final class InMemoryRepositories {
+    final Map<String, IdempotencyKeyEntity> idempotencyKeys = new HashMap<>();
+    final Map<String, PaymentEntity> payments = new HashMap<>();
+    final Map<String, List<PaymentEventEntity>> events = new HashMap<>();
+    final List<LedgerEntryEntity> ledgerEntries = new ArrayList<>();
+
+    final PaymentRepository paymentRepository = proxy(PaymentRepository.class, (name, args) -> switch (name) {
+        case "save" -> {
+            var p = (PaymentEntity) args[0];
+            payments.put(p.getPaymentId(), p);
+            yield p;
+        }
+        case "findByPaymentId" -> Optional.ofNullable(payments.get((String) args[0]));
+        case "existsByPaymentId" -> payments.containsKey((String) args[0]);
+        default -> unsupported(PaymentRepository.class, name);
+    });
+
+    final IdempotencyKeyRepository idempotencyKeyRepository = proxy(IdempotencyKeyRepository.class, (name, args) -> switch (name) {
+        case "save", "saveAndFlush" -> {
+            var k = (IdempotencyKeyEntity) args[0];
+            idempotencyKeys.put(k.getIdempotencyKey(), k);
+            yield k;
+        }
+        case "findByIdempotencyKey" -> Optional.ofNullable(idempotencyKeys.get((String) args[0]));
+        default -> unsupported(IdempotencyKeyRepository.class, name);
+    });
+
+    final PaymentEventRepository paymentEventRepository = proxy(PaymentEventRepository.class, (name, args) -> switch (name) {
+        case "save" -> {
+            var e = (PaymentEventEntity) args[0];
+            events.computeIfAbsent(e.getPaymentId(), id -> new ArrayList<>()).add(e);
+            yield e;
+        }
+        case "findByPaymentIdOrderByCreatedAtAsc" -> events.getOrDefault((String) args[0], List.of());
+        default -> unsupported(PaymentEventRepository.class, name);
+    });
+
+    /*
+     * PaymentService wired to these repositories. JDBC-only read paths
+     * (event pages/streams) are not available in memory.
+     */
+    PaymentService paymentService(ObjectMapper objectMapper) {
+        return paymentService(objectMapper, new SimpleMeterRegistry());
+    }
+
+    PaymentService paymentService(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        PaymentMetrics paymentMetrics = new PaymentMetrics(meterRegistry);
+        return new PaymentService(
+                paymentRepository,
+                idempotencyKeyRepository,
+                paymentEventRepository,
+                null,
+                objectMapper,
+                paymentEventWriter(paymentMetrics),
+                new PaymentEventPayloads(),
+                new PaymentTransitionExecutor(
+                        paymentTransitionRepository(),
+                        new TransitionRetryProperties(3, Duration.ofMillis(5), Duration.ofMillis(50)),
+                        new NoOpTransactionManager(),
+                        new SimpleMeterRegistry()
+                ),
+                idempotencyResponseCache(),
+                new TimeOrderedIdGenerator(0, 10),
+                ledgerPostingEngine(),
+                paymentMetrics,
+                new PaymentSnapshotCache(
+                        new PaymentSnapshotCacheProperties(true, 100_000, Duration.ofSeconds(2), Duration.ofHours(1)),
+                        objectMapper,
+                        meterRegistry
+                ),
+                new ReadYourWrites(new ReplicaProperties(false, List.of(), null, null, 10, Duration.ofSeconds(5), 100_000))
+        );
+    }
+
+    /*
+     * Transition statement replayed on the in-memory maps: same outcome rules
+     * (applied only from an allowed source, event appended with the change).
+     */
+    PaymentTransitionJdbcRepository paymentTransitionRepository() {
+        return new PaymentTransitionJdbcRepository(null) {
+            @Override
+            public Optional<TransitionRow> transition(
+                    String paymentId,
+                    PaymentStatus target,
+                    Set<PaymentStatus> sources,
+                    String payloadJson,
+                    Instant at
+            ) {
+                PaymentEntity p = payments.get(paymentId);
+                if (p == null) return Optional.empty();
+
+                PaymentStatus previous = p.getStatus();
+                boolean applied = sources.contains(previous);
+                if (applied) {
+                    p.changeStatus(target);
+                    events.computeIfAbsent(paymentId, id -> new ArrayList<>()).add(
+                            PaymentEventEntity.stateChanged(paymentId, PaymentEventType.STATUS_CHANGED,
+                                    previous, target, payloadJson));
+                }
+                return Optional.of(new TransitionRow(p.getPaymentId(), p.getPaymentMethod(), p.getAmount(),
+                        p.getCurrency(), previous, p.getStatus(), p.getVersion(), p.getCreatedAt(), p.getUpdatedAt(), applied));
+            }
+        };
+    }
+
+    /*
+     * Event writer whose appender lands in the in-memory event map
+     * (no transaction is active, so appends are written through immediately).
+     */
+    PaymentEventWriter paymentEventWriter(PaymentMetrics paymentMetrics) {
+        var jdbc = new PaymentEventJdbcRepository(null) {
+            @Override
+            public void insertAll(List<PaymentEventEntity> batch) {
+                for (PaymentEventEntity e : batch) {
+                    events.computeIfAbsent(e.getPaymentId(), id -> new ArrayList<>()).add(e);
+                }
+            }
+        };
+        return new PaymentEventWriter(new PaymentEventAppender(jdbc, null, paymentMetrics));
+    }
+
+    /*
+     * Replay cache with production defaults, metrics going to a throwaway registry.
+     */
+    static IdempotencyResponseCache idempotencyResponseCache() {
+        return new IdempotencyResponseCache(
+                new IdempotencyCacheProperties(true, DataSize.ofMegabytes(64), Duration.ofMinutes(10)),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    final LedgerEntryRepository ledgerEntryRepository = proxy(LedgerEntryRepository.class, (name, args) -> switch (name) {
+        case "saveAll" -> {
+            for (Object e : (Iterable<?>) args[0]) {
+                ledgerEntries.add((LedgerEntryEntity) e);
+            }
+            yield args[0];
+        }
+        default -> unsupported(LedgerEntryRepository.class, name);
+    });
+
+    LedgerPostingEngine ledgerPostingEngine() {
+        var balances = new AccountBalanceJdbcRepository(null) {
+            @Override
+            public void applyAll(List<LedgerEntryEntity> entries, int stripes) {
+            }
+        };
+        return new LedgerPostingEngine(
+                ledgerEntryRepository,
+                balances,
+                new LedgerProperties(true, "merchant:default", "clearing:", 8,
+                        new LedgerProperties.Snapshot(false, Duration.ofHours(1), Duration.ofMinutes(5)))
+        );
+    }
+
+    void clear() {
+        idempotencyKeys.clear();
+        payments.clear();
+        events.clear();
+        ledgerEntries.clear();
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> "InMemory" + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.handle(method.getName(), args);
+                }
+        );
+    }
+
+    private static Object unsupported(Class<?> type, String method) {
+        throw new UnsupportedOperationException(type.getSimpleName() + "." + method + " is not supported in memory");
+    }
+
+    /*
+     * Transactions without a resource: synchronizations (after-commit cache puts) still run.
+     */
+    static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
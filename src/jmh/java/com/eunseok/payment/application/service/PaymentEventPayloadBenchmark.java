@@ -0,0 +1,60 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * payment_events payloads: the Map built per transition and serialized through
+ * ObjectMapper (as before) vs the typed writers in {@link PaymentEventPayloads}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentEventPayloadBenchmark {
+
+    private ObjectMapper objectMapper;
+    private PaymentEventPayloads payloads;
+    private CreatePaymentRequest request;
+    private Instant at;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        payloads = new PaymentEventPayloads();
+        request = new CreatePaymentRequest(12_500L, "CAD", "CARD", "order 1042 / marketplace checkout");
+        at = Instant.parse("2026-01-15T10:00:00.123456Z");
+    }
+
+    @Benchmark
+    public String statusChangedMap() {
+        return objectMapper.writeValueAsString(Map.of(
+                "action", "settle",
+                "at", at
+        ));
+    }
+
+    @Benchmark
+    public String statusChangedTyped() {
+        return payloads.statusChanged(PaymentStatus.SETTLED, at);
+    }
+
+    @Benchmark
+    public String createdObjectMapper() {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    @Benchmark
+    public String createdTyped() {
+        return payloads.created(request);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.api.dto.CreatePaymentResponse;
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.application.cache.IdempotencyResponseCache.CachedResponse;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache.PaymentSnapshot;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end service calls against in-memory repositories.
+ *
+ * Database time is deliberately excluded: these numbers are the CPU and
+ * allocation cost the service itself adds on top of the SQL round trips.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentLifecycleBenchmark {
+
+    private InMemoryRepositories repositories;
+    private PaymentService service;
+    private CreatePaymentRequest request;
+    private String replayKey;
+    private String replayPaymentId;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repositories = new InMemoryRepositories();
+        service = repositories.paymentService(JsonMapper.builder().build());
+        request = new CreatePaymentRequest(12_500L, "CAD", "CARD", "order 1042 / marketplace checkout");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStore() {
+        repositories.clear();
+        replayKey = "bench-replay";
+        replayPaymentId = service.createPayment(request, replayKey).paymentId();
+    }
+
+    @Benchmark
+    public CreatePaymentResponse create() {
+        return service.createPayment(request, "bench-" + sequence++);
+    }
+
+    @Benchmark
+    public CreatePaymentResponse createReplay() {
+        return service.createPayment(request, replayKey);
+    }
+
+    @Benchmark
+    public CachedResponse cachedReplay() {
+        return service.findCachedReplay(request, replayKey).orElseThrow();
+    }
+
+    @Benchmark
+    public PaymentSnapshot get() {
+        return service.getPayment(replayPaymentId);
+    }
+
+    @Benchmark
+    public PaymentResponse createAuthorizeSettle() {
+        CreatePaymentResponse created = service.createPayment(request, "bench-" + sequence++);
+        service.authorize(created.paymentId());
+        return service.settle(created.paymentId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.PostgresBackedApplication;
+import com.eunseok.payment.api.dto.PaymentPageResponse;
+import com.eunseok.payment.common.util.KeysetCursor;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /payments page latency against page depth, on a table of a few million
+ * payments. With keyset pagination the first page and a page millions of rows
+ * in should cost the same.
+ *
+ * The table is seeded with INSERT ... SELECT generate_series, once per trial
+ * or, on a shared database (-Dbenchmark.jdbc-url), once for all trials; the
+ * cursor for each depth is read back from the table. Needs Docker
+ * (Testcontainers) unless a database is given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PaymentListingBenchmark {
+    private static final int ROWS = 3_000_000;
+
+    /*
+     * Offset of the page's first row within status=SETTLED (one in three rows)
+     */
+    @Param({"0", "10000", "500000", "990000"})
+    public int depth;
+
+    @Param({"100"})
+    public int limit;
+
+    private PostgresBackedApplication app;
+    private PaymentQueryService paymentQueryService;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = PostgresBackedApplication.start(Map.of());
+        paymentQueryService = app.bean(PaymentQueryService.class);
+
+        Integer seeded = app.jdbc().queryForObject(
+                "SELECT count(*) FROM payments WHERE payment_id = 'list-' || ?", Integer.class, ROWS);
+        if (seeded == 0) {
+            seed();
+        }
+
+        if (depth > 0) {
+            cursor = app.jdbc().queryForObject("""
+                    SELECT created_at, payment_id FROM payments
+                    WHERE status = 'SETTLED'
+                    ORDER BY created_at, payment_id
+                    OFFSET ? LIMIT 1
+                    """,
+                    (rs, i) -> new KeysetCursor(
+                            rs.getObject("created_at", Timestamp.class).toInstant(),
+                            rs.getString("payment_id")
+                    ).encode(),
+                    depth - 1);
+        }
+    }
+
+    private void seed() {
+        app.jdbc().update("""
+                INSERT INTO idempotency_keys (idempotency_key, request_hash, status)
+                SELECT 'list-' || g, repeat('0', 64), 'SUCCEEDED' FROM generate_series(1, ?) g
+                """, ROWS);
+        app.jdbc().update("""
+                INSERT INTO payments (payment_id, idempotency_key, payment_method, amount, currency, status, created_at, updated_at)
+                SELECT 'list-' || g, 'list-' || g, 'CARD', 1000,
+                       (ARRAY['CAD', 'USD'])[1 + g % 2],
+                       (ARRAY['AUTHORIZED', 'SETTLED', 'CANCELED'])[1 + g % 3],
+                       now() - (? - g) * interval '1 second',
+                       now()
+                FROM generate_series(1, ?) g
+                """, ROWS, ROWS);
+        app.jdbc().execute("ANALYZE payments");
+    }
+
+    @Benchmark
+    public PaymentPageResponse page() {
+        return paymentQueryService.searchPayments(PaymentStatus.SETTLED, null, null, null, cursor, limit);
+    }
+
+    @Benchmark
+    public PaymentPageResponse pageByCurrency() {
+        return paymentQueryService.searchPayments(PaymentStatus.SETTLED, null, null, "CAD", cursor, limit);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+    }
+}
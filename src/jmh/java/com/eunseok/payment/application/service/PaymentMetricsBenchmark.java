@@ -0,0 +1,74 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.api.dto.CreatePaymentResponse;
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.application.service.PaymentMetrics.CreateStage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the pipeline instrumentation (see {@link PaymentMetrics}).
+ *
+ * registry=noop is a composite registry without children, so every meter is a
+ * no-op; registry=prometheus records into the same histograms as production.
+ * The difference between the two is what the stage timers and counters add.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentMetricsBenchmark {
+
+    @Param({"noop", "prometheus"})
+    public String registry;
+
+    private InMemoryRepositories repositories;
+    private PaymentService service;
+    private PaymentMetrics metrics;
+    private CreatePaymentRequest request;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeterRegistry meterRegistry = switch (registry) {
+            case "noop" -> new CompositeMeterRegistry();
+            case "prometheus" -> new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            default -> throw new IllegalArgumentException("Unknown registry: " + registry);
+        };
+        repositories = new InMemoryRepositories();
+        service = repositories.paymentService(JsonMapper.builder().build(), meterRegistry);
+        metrics = new PaymentMetrics(meterRegistry);
+        request = new CreatePaymentRequest(12_500L, "CAD", "CARD", "order 1042 / marketplace checkout");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStore() {
+        repositories.clear();
+    }
+
+    @Benchmark
+    public void recordStage() {
+        metrics.recordStage(CreateStage.HASH, System.nanoTime());
+    }
+
+    @Benchmark
+    public CreatePaymentResponse create() {
+        return service.createPayment(request, "bench-" + sequence++);
+    }
+
+    @Benchmark
+    public PaymentResponse createAuthorizeSettle() {
+        CreatePaymentResponse created = service.createPayment(request, "bench-" + sequence++);
+        service.authorize(created.paymentId());
+        return service.settle(created.paymentId());
+    }
+}
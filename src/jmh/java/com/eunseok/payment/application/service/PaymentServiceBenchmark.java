@@ -0,0 +1,73 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.api.dto.CreatePaymentResponse;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request helpers on the createPayment path:
+ * request fingerprinting (and the legacy JSON hash it replaced),
+ * event/response serialization and idempotent replay parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentServiceBenchmark {
+
+    private PaymentService service;
+    private CreatePaymentRequest request;
+    private CreatePaymentResponse response;
+    private String responseJson;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().build();
+        InMemoryRepositories repositories = new InMemoryRepositories();
+
+        service = repositories.paymentService(objectMapper);
+
+        request = new CreatePaymentRequest(12_500L, "CAD", "CARD", "order 1042 / marketplace checkout");
+        response = new CreatePaymentResponse(
+                "0b6f2c1e-6a43-4f7e-9d0f-2f1b7f0c5a11",
+                PaymentStatus.INIT,
+                12_500L,
+                "CAD",
+                Instant.parse("2026-01-01T00:00:00Z")
+        );
+        responseJson = service.safeJson(response);
+    }
+
+    @Benchmark
+    public String hashRequest() {
+        return service.hash(request);
+    }
+
+    @Benchmark
+    public String legacyHashRequest() {
+        return service.legacyHash(request);
+    }
+
+    @Benchmark
+    public String serializeRequest() {
+        return service.safeJson(request);
+    }
+
+    @Benchmark
+    public String serializeResponse() {
+        return service.safeJson(response);
+    }
+
+    @Benchmark
+    public CreatePaymentResponse parseResponse() {
+        return service.parseResponse(responseJson);
+    }
+}
@@ -0,0 +1,102 @@
+package com.eunseok.payment.application.settlement;
+
+import com.eunseok.payment.PostgresBackedApplication;
+import com.eunseok.payment.api.dto.SettlementRunResponse;
+import com.eunseok.payment.domain.model.SettlementRunStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of one settlement run over a pool of AUTHORIZED payments, by
+ * worker count and chunk size. Compare with SettleLedgerBenchmark, which
+ * settles the same payments one call at a time.
+ *
+ * Each invocation seeds a fresh pool and waits for the run to complete. While
+ * waiting it samples pg_stat_activity every 20 ms: lockWaits out of samples
+ * is how often a worker was blocked on a row lock held by another one.
+ * Needs Docker (Testcontainers), or -Dbenchmark.jdbc-url, see PostgresBackedApplication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BulkSettlementBenchmark {
+
+    @Param({"200000"})
+    public int poolSize;
+
+    @Param({"1", "4", "8"})
+    public int workers;
+
+    @Param({"500", "2000"})
+    public int chunkSize;
+
+    private PostgresBackedApplication app;
+    private BulkSettlementService bulkSettlementService;
+    private String trial;
+    private int invocation;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LockWaits {
+        public long lockWaits;
+        public long samples;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lockWaits = 0;
+            samples = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = PostgresBackedApplication.start(Map.of("payment.settlement.resume-on-startup", false));
+        bulkSettlementService = app.bean(BulkSettlementService.class);
+        // trials may share a database (-Dbenchmark.jdbc-url)
+        trial = Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    @Setup(Level.Invocation)
+    public void seedAuthorizedPayments() {
+        String prefix = "bulk-" + trial + "-" + (invocation++) + "-";
+        app.jdbc().update("""
+                INSERT INTO idempotency_keys (idempotency_key, request_hash, status)
+                SELECT ? || g, repeat('0', 64), 'SUCCEEDED' FROM generate_series(1, ?) g
+                """, prefix, poolSize);
+        app.jdbc().update("""
+                INSERT INTO payments (payment_id, idempotency_key, payment_method, amount, currency, status)
+                SELECT ? || g, ? || g, 'CARD', 1000, 'CAD', 'AUTHORIZED' FROM generate_series(1, ?) g
+                """, prefix, prefix, poolSize);
+        app.jdbc().execute("ANALYZE payments");
+    }
+
+    @Benchmark
+    public SettlementRunResponse settleRun(LockWaits lockWaits) throws InterruptedException {
+        SettlementRunResponse run = bulkSettlementService.start(Instant.now(), workers, chunkSize);
+        while (run.status() == SettlementRunStatus.RUNNING) {
+            Thread.sleep(20);
+            Integer blocked = app.jdbc().queryForObject("""
+                    SELECT count(*) FROM pg_stat_activity
+                    WHERE datname = current_database() AND wait_event_type = 'Lock'
+                    """, Integer.class);
+            lockWaits.samples++;
+            if (blocked != null && blocked > 0) lockWaits.lockWaits++;
+            run = bulkSettlementService.get(run.runId());
+        }
+        if (run.status() != SettlementRunStatus.COMPLETED || run.settledCount() != poolSize) {
+            throw new IllegalStateException("Unexpected run outcome: " + run);
+        }
+        return run;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        app.close();
+    }
+}
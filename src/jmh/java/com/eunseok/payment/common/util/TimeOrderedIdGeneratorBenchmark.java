@@ -0,0 +1,37 @@
+package com.eunseok.payment.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation cost: random UUIDv4 vs the time-ordered generator,
+ * single-threaded and with all threads contending on one generator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeOrderedIdGeneratorBenchmark {
+
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7, 10);
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedContended() {
+        return generator.next();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eunseok.payment.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lifecycle rule evaluation: every (from, to) pair of {@link PaymentStatus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentStatusBenchmark {
+
+    private final PaymentStatus[] statuses = PaymentStatus.values();
+
+    @Benchmark
+    public void canTransitionToAllPairs(Blackhole bh) {
+        for (PaymentStatus from : statuses) {
+            for (PaymentStatus to : statuses) {
+                bh.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.eunseok.payment.infra.persistence;
+
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert rate and index size of payment ids: random UUIDv4 vs time-ordered.
+ *
+ * Each operation inserts one batch of rows into a copy of the payments id
+ * columns plus an event-style (payment_id, created_at) index. The table is
+ * pre-filled so the unique index no longer fits in a few pages; random keys
+ * then touch pages all over the tree while time-ordered keys append.
+ *
+ * Needs Docker (Testcontainers). Index sizes are printed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PaymentIdInsertBenchmark {
+    private static final int BATCH = 100;
+
+    public enum IdScheme { UUID_V4, TIME_ORDERED }
+
+    @Param({"UUID_V4", "TIME_ORDERED"})
+    public IdScheme scheme;
+
+    @Param({"1000000"})
+    public int prefill;
+
+    private PostgreSQLContainer postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:16"));
+        postgres.start();
+        connection = DriverManager.getConnection(
+                postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                postgres.getUsername(),
+                postgres.getPassword()
+        );
+
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, 10);
+        ids = scheme == IdScheme.UUID_V4 ? () -> UUID.randomUUID().toString() : generator::next;
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("""
+                    CREATE TABLE bench_payments (
+                        id BIGSERIAL PRIMARY KEY,
+                        payment_id VARCHAR(64) NOT NULL UNIQUE,
+                        created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+                    )""");
+            st.execute("CREATE INDEX ix_bench_payments_payment_id_created_at ON bench_payments (payment_id, created_at)");
+        }
+        insert = connection.prepareStatement("INSERT INTO bench_payments (payment_id) VALUES (?)");
+        for (int i = 0; i < prefill; i += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    private void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setString(1, ids.get());
+            insert.addBatch();
+        }
+        insert.executeBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("""
+                     SELECT count(*),
+                            pg_relation_size('bench_payments_payment_id_key'),
+                            pg_relation_size('ix_bench_payments_payment_id_created_at')
+                     FROM bench_payments""")) {
+            rs.next();
+            long rows = rs.getLong(1);
+            System.out.printf("%n[%s] rows=%d unique index=%d bytes (%.1f B/row), (payment_id, created_at) index=%d bytes (%.1f B/row)%n",
+                    scheme, rows,
+                    rs.getLong(2), (double) rs.getLong(2) / rows,
+                    rs.getLong(3), (double) rs.getLong(3) / rows);
+        }
+        connection.close();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,153 @@
+package com.eunseok.payment.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The application in its own JVM, launched the way a new instance starts.
+ *
+ * Startup is measured from just before the process is spawned to the first
+ * 2xx response of POST /payments: JVM start, class loading, the Spring
+ * context, Hibernate, Flyway and the first request on a cold JIT all count.
+ * Each launch runs in its own directory under --logs, output in app.log.
+ */
+final class AppProcess implements AutoCloseable {
+    private static final Pattern STARTED = Pattern.compile(
+            "Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private final Process process;
+    private final String baseUrl;
+    private final Path log;
+    private final long launchedAt;
+
+    private AppProcess(Process process, String baseUrl, Path log, long launchedAt) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+        this.log = log;
+        this.launchedAt = launchedAt;
+    }
+
+    /*
+     * jvmArgs are added to the mode's own (e.g. -XX:ArchiveClassesAtExit for training).
+     */
+    static AppProcess launch(StartupConfig config, StartupMode mode, Database database, List<String> jvmArgs, String name)
+            throws IOException {
+        Path workDir = Files.createDirectories(config.logs().toAbsolutePath().resolve(name));
+        Path log = workDir.resolve("app.log");
+        int port = freePort();
+
+        List<String> command = new ArrayList<>();
+        command.add(config.java());
+        if (mode.cds()) {
+            // fail instead of silently starting without the archive (other JVM, moved jar)
+            command.add("-Xshare:on");
+            command.add("-XX:SharedArchiveFile=" + config.archive().toAbsolutePath());
+        }
+        if (mode.aot()) command.add("-Dspring.aot.enabled=true");
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add((mode.extracted() ? config.jar() : config.bootJar()).toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + database.jdbcUrl());
+        command.add("--spring.datasource.username=" + database.username());
+        command.add("--spring.datasource.password=" + database.password());
+        command.add("--payment.flyway.migrate=" + mode.migrate());
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new AppProcess(process, "http://localhost:" + port, log, launchedAt);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /*
+     * Polls POST /payments until one succeeds; returns the time since launch.
+     */
+    Duration awaitFirstCreate(Duration timeout, String idempotencyKeyPrefix) throws IOException, InterruptedException {
+        long deadline = launchedAt + timeout.toNanos();
+        for (int attempt = 0; ; attempt++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/payments"))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", idempotencyKeyPrefix + attempt)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"amount\":1000,\"currency\":\"CAD\",\"paymentMethod\":\"CARD\",\"description\":\"startup\"}"))
+                    .build();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status >= 200 && status < 300) {
+                    return Duration.ofNanos(System.nanoTime() - launchedAt);
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No payment created within " + timeout + ", see " + log);
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    /*
+     * Spring's own "Started ... in X seconds (process running for Y)" line.
+     */
+    Optional<Started> started() throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        if (!matcher.find()) return Optional.empty();
+        return Optional.of(new Started(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2))));
+    }
+
+    /*
+     * SIGTERM and wait, so shutdown hooks run and a CDS archive is written on exit.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Database(String jdbcUrl, String username, String password) {
+    }
+
+    /*
+     * contextSeconds: SpringApplication.run; processSeconds: JVM uptime when the context was ready.
+     */
+    record Started(double contextSeconds, double processSeconds) {
+    }
+}
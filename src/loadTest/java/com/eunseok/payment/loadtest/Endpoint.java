@@ -0,0 +1,14 @@
+package com.eunseok.payment.loadtest;
+
+/*
+ * Request kinds recorded separately in the report.
+ */
+enum Endpoint {
+    CREATE,
+    CREATE_REPLAY,
+    AUTHORIZE,
+    SETTLE,
+    CANCEL,
+    REVERSE,
+    GET
+}
@@ -0,0 +1,68 @@
+package com.eunseok.payment.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts of one endpoint.
+ *
+ * Latencies go to an HDR Recorder (microseconds, 3 significant digits, up to
+ * one minute), which writers update without locking. Every request is
+ * recorded, failed ones included, so a slow error path shows up in the tail.
+ */
+final class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    /*
+     * status = 0 for transport failures (connection refused, timeout).
+     */
+    void record(long latencyNanos, int status, boolean ok) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        recorder.recordValue(Math.max(1, micros));
+        if (!ok) errors.increment();
+        statusCodes.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /*
+     * Drops everything recorded so far (end of warmup).
+     */
+    void reset() {
+        recorder.getIntervalHistogram();
+        errors.reset();
+        statusCodes.clear();
+    }
+
+    LoadTestReport.EndpointReport report(double seconds) {
+        Histogram h = recorder.getIntervalHistogram();
+        long count = h.getTotalCount();
+        long failed = errors.sum();
+        Map<Integer, Long> codes = new TreeMap<>();
+        statusCodes.forEach((status, n) -> codes.put(status, n.sum()));
+        return new LoadTestReport.EndpointReport(
+                count,
+                failed,
+                count == 0 ? 0 : (double) failed / count,
+                count / seconds,
+                millis(h.getValueAtPercentile(50)),
+                millis(h.getValueAtPercentile(90)),
+                millis(h.getValueAtPercentile(99)),
+                millis(h.getValueAtPercentile(99.9)),
+                millis(h.getMaxValue()),
+                codes
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
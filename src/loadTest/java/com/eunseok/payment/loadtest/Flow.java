@@ -0,0 +1,50 @@
+package com.eunseok.payment.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/*
+ * Workload flows (one flow = the requests of one simulated client interaction):
+ *
+ * SETTLE  - create -> authorize -> settle
+ * CANCEL  - create -> authorize -> cancel
+ * REVERSE - create -> authorize -> settle -> reverse
+ * RETRY   - create, then the same create again with the same Idempotency-Key (replay)
+ * READ    - GET of a recently created payment (a poll)
+ */
+enum Flow {
+    SETTLE,
+    CANCEL,
+    REVERSE,
+    RETRY,
+    READ;
+
+    /*
+     * Weighted choice over a mix; not thread-safe, one picker per driver thread.
+     */
+    static final class Picker {
+        private final List<Flow> flows;
+        private final int[] cumulative;
+        private final SplittableRandom random;
+
+        Picker(Map<Flow, Integer> mix, long seed) {
+            this.flows = List.copyOf(mix.keySet());
+            this.cumulative = new int[flows.size()];
+            int total = 0;
+            for (int i = 0; i < flows.size(); i++) {
+                total += mix.get(flows.get(i));
+                cumulative[i] = total;
+            }
+            this.random = new SplittableRandom(seed);
+        }
+
+        Flow next() {
+            int r = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (r < cumulative[i]) return flows.get(i);
+            }
+            throw new IllegalStateException("unreachable");
+        }
+    }
+}
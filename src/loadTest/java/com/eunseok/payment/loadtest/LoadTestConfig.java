@@ -0,0 +1,101 @@
+package com.eunseok.payment.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Workload options, parsed from --key=value arguments.
+ *
+ * --base-url=http://host:8080     target a running instance (default: start one on Testcontainers)
+ * --rate=200                      open model: flows started per second (default)
+ * --concurrency=32                closed model: workers running flows back to back (overrides --rate)
+ * --duration=60s --warmup=10s     measured window, preceded by an unrecorded warmup
+ * --mix=settle:40,cancel:10,...   relative flow weights (see Flow)
+ * --seed=42                       flow selection seed, so a mix is replayed identically
+ * --label=...                     free text copied into the report (commit, machine)
+ * --app.<property>=value          application property, only when the driver starts the app
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<Flow, Integer> mix,
+        long seed,
+        String label,
+        Path report,
+        Map<String, Object> appProperties
+) {
+    static final String DEFAULT_MIX = "settle:40,cancel:10,reverse:10,retry:10,read:30";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Map<String, Object> appProperties = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.startsWith("app.")) {
+                appProperties.put(key.substring("app.".length()), value);
+            } else {
+                options.put(key, value);
+            }
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                take(options, "base-url", null),
+                Integer.parseInt(take(options, "rate", "200")),
+                Integer.parseInt(take(options, "concurrency", "0")),
+                DurationStyle.detectAndParse(take(options, "duration", "60s")),
+                DurationStyle.detectAndParse(take(options, "warmup", "10s")),
+                parseMix(take(options, "mix", DEFAULT_MIX)),
+                Long.parseLong(take(options, "seed", "42")),
+                take(options, "label", ""),
+                Path.of(take(options, "report", "build/reports/loadtest/report.json")),
+                appProperties
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        if (config.concurrency() <= 0 && config.rate() <= 0) {
+            throw new IllegalArgumentException("Either --rate or --concurrency must be positive");
+        }
+        return config;
+    }
+
+    boolean closedModel() {
+        return concurrency > 0;
+    }
+
+    static String take(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value == null ? defaultValue : value;
+    }
+
+    static Map<Flow, Integer> parseMix(String spec) {
+        Map<Flow, Integer> mix = new EnumMap<>(Flow.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Expected flow:weight in --mix, got: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Flow.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no flow with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,145 @@
+package com.eunseok.payment.loadtest;
+
+import com.eunseok.payment.PaymentServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Workload driver: ./gradlew loadTest -PloadTest.args="..." (options in {@link LoadTestConfig}).
+ *
+ * Open model (--rate): flows start on a fixed schedule whatever the server
+ * does, each on its own virtual thread, which is how independent clients
+ * behave. Closed model (--concurrency): a fixed number of workers run flows
+ * back to back, so throughput is whatever the server sustains.
+ *
+ * Warmup traffic is sent but not recorded. The report is written as JSON so
+ * two runs (e.g. before and after a change) can be diffed.
+ */
+public final class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        try (Target target = Target.start(config)) {
+            Workload workload = new Workload(target.baseUrl());
+
+            System.out.printf("Warmup %s against %s%n", config.warmup(), target.baseUrl());
+            drive(config, workload, config.warmup(), config.seed() ^ 0x5eed);
+            workload.reset();
+
+            System.out.printf("Measuring %s%n", config.duration());
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            drive(config, workload, config.duration(), config.seed());
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            LoadTestReport report = workload.report(config, startedAt, seconds);
+            Files.createDirectories(config.report().toAbsolutePath().getParent());
+            JsonMapper.builder()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .build()
+                    .writeValue(config.report().toFile(), report);
+
+            printSummary(report);
+            System.out.printf("Report: %s%n", config.report().toAbsolutePath());
+        }
+    }
+
+    /*
+     * Runs the workload for one phase and waits for the flows it started.
+     */
+    private static void drive(LoadTestConfig config, Workload workload, Duration duration, long seed) {
+        if (duration.isZero()) return;
+        long end = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (config.closedModel()) {
+                for (int i = 0; i < config.concurrency(); i++) {
+                    Flow.Picker picker = new Flow.Picker(config.mix(), seed + i);
+                    executor.execute(() -> {
+                        while (System.nanoTime() < end) {
+                            workload.run(picker.next(), System.nanoTime());
+                        }
+                    });
+                }
+                return;
+            }
+
+            Flow.Picker picker = new Flow.Picker(config.mix(), seed);
+            long interval = 1_000_000_000L / config.rate();
+            for (long next = System.nanoTime(); next < end; next += interval) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                long intendedStart = next;
+                Flow flow = picker.next();
+                executor.execute(() -> workload.run(flow, intendedStart));
+            }
+        }
+    }
+
+    private static void printSummary(LoadTestReport report) {
+        System.out.printf("%-14s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "err%", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        report.endpoints().forEach((endpoint, r) -> {
+            if (r.count() > 0) printRow(endpoint.name().toLowerCase(), r);
+        });
+        printRow("total", report.total());
+    }
+
+    private static void printRow(String name, LoadTestReport.EndpointReport r) {
+        System.out.printf("%-14s %9d %8.2f %9.1f %9.2f %9.2f %9.2f%n",
+                name, r.count(), r.errorRate() * 100, r.throughput(), r.p50(), r.p99(), r.p999());
+    }
+
+    /*
+     * The service under test: either an instance given by --base-url, or the
+     * application started here on a throwaway Postgres (needs Docker).
+     */
+    private record Target(String baseUrl, PostgreSQLContainer postgres, ConfigurableApplicationContext context)
+            implements AutoCloseable {
+
+        static Target start(LoadTestConfig config) {
+            if (config.baseUrl() != null) {
+                return new Target(config.baseUrl(), null, null);
+            }
+
+            PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:16"));
+            postgres.start();
+
+            Map<String, Object> properties = new HashMap<>(config.appProperties());
+            properties.put("spring.datasource.url", postgres.getJdbcUrl());
+            properties.put("spring.datasource.username", postgres.getUsername());
+            properties.put("spring.datasource.password", postgres.getPassword());
+            properties.put("server.port", 0);
+
+            // as command line arguments: default properties would lose to application.properties
+            String[] args = properties.entrySet().stream()
+                    .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                    .toArray(String[]::new);
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(PaymentServiceApplication.class)
+                    .run(args);
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            return new Target("http://localhost:" + port, postgres, context);
+        }
+
+        @Override
+        public void close() {
+            if (context != null) context.close();
+            if (postgres != null) postgres.stop();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.eunseok.payment.loadtest;
+
+import java.time.Instant;
+import java.util.Map;
+
+/*
+ * Machine-readable result of one run (build/reports/loadtest/report.json).
+ * Latencies are in milliseconds, throughput in requests per second of the measured window.
+ */
+record LoadTestReport(
+        String label,
+        Instant startedAt,
+        String model,
+        int rate,
+        int concurrency,
+        Map<Flow, Integer> mix,
+        long seed,
+        double durationSeconds,
+        long flowsStarted,
+        long flowsCompleted,
+        EndpointReport total,
+        Map<Endpoint, EndpointReport> endpoints
+) {
+    record EndpointReport(
+            long count,
+            long errors,
+            double errorRate,
+            double throughput,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            Map<Integer, Long> statusCodes
+    ) {
+    }
+}
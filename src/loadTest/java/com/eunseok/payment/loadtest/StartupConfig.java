@@ -0,0 +1,86 @@
+package com.eunseok.payment.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup benchmark options, parsed from --key=value arguments.
+ *
+ * --modes=jar,extracted,aot,aot+cds,aot+cds+no-migrate   launch modes to compare (see StartupMode)
+ * --runs=5                         measured launches per mode, interleaved across modes
+ * --train=build/.../app.jsa        record a CDS archive from one training launch instead of measuring
+ * --training-flows=300             payment flows sent during the training launch
+ * --java=/path/to/bin/java         JVM for the launches; an archive only works on the JVM that recorded it
+ * --boot-jar=... --jar=...         the executable jar and its extracted copy
+ * --archive=...                    CDS archive for the cds modes
+ * --jdbc-url=... --db-username=... --db-password=...   database (default: Testcontainers Postgres, needs Docker)
+ * --timeout=120s                   a launch that has not created a payment by then fails the run
+ * --label=...                      free text copied into the report
+ */
+record StartupConfig(
+        List<StartupMode> modes,
+        int runs,
+        Path train,
+        int trainingFlows,
+        String java,
+        Path bootJar,
+        Path jar,
+        Path archive,
+        String jdbcUrl,
+        String dbUsername,
+        String dbPassword,
+        Duration timeout,
+        String label,
+        Path report,
+        Path logs
+) {
+    static final String DEFAULT_MODES = "jar,extracted,aot,aot+cds,aot+cds+no-migrate";
+
+    static StartupConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String train = LoadTestConfig.take(options, "train", null);
+        StartupConfig config = new StartupConfig(
+                Arrays.stream(LoadTestConfig.take(options, "modes", DEFAULT_MODES).split(","))
+                        .map(StartupMode::parse)
+                        .toList(),
+                Integer.parseInt(LoadTestConfig.take(options, "runs", "5")),
+                train == null ? null : Path.of(train),
+                Integer.parseInt(LoadTestConfig.take(options, "training-flows", "300")),
+                LoadTestConfig.take(options, "java", Path.of(System.getProperty("java.home"), "bin", "java").toString()),
+                Path.of(LoadTestConfig.take(options, "boot-jar", "build/libs/payment-service-0.0.1-SNAPSHOT.jar")),
+                Path.of(LoadTestConfig.take(options, "jar", "build/fast-start/app/payment-service-0.0.1-SNAPSHOT.jar")),
+                Path.of(LoadTestConfig.take(options, "archive", "build/fast-start/application.jsa")),
+                LoadTestConfig.take(options, "jdbc-url", null),
+                LoadTestConfig.take(options, "db-username", "payment"),
+                LoadTestConfig.take(options, "db-password", "payment"),
+                DurationStyle.detectAndParse(LoadTestConfig.take(options, "timeout", "120s")),
+                LoadTestConfig.take(options, "label", ""),
+                Path.of(LoadTestConfig.take(options, "report", "build/reports/startup/report.json")),
+                Path.of(LoadTestConfig.take(options, "logs", "build/reports/startup/logs"))
+        );
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        if (config.runs() <= 0) {
+            throw new IllegalArgumentException("--runs must be positive");
+        }
+        return config;
+    }
+
+    boolean training() {
+        return train != null;
+    }
+}
@@ -0,0 +1,143 @@
+package com.eunseok.payment.loadtest;
+
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Startup benchmark and CDS training run: ./gradlew startupBenchmark / cdsArchive
+ * (options in {@link StartupConfig}).
+ *
+ * Measuring: one unrecorded launch first (it migrates a fresh database and
+ * warms the page cache), then --runs rounds that launch every mode once, so
+ * drift on the machine spreads over all modes instead of favouring the last.
+ *
+ * Training (--train): one AOT launch with -XX:ArchiveClassesAtExit, driven
+ * through --training-flows payment lifecycles so the request path is loaded
+ * too, then stopped; the JVM writes the archive on exit.
+ */
+public final class StartupMain {
+
+    public static void main(String[] args) throws Exception {
+        StartupConfig config = StartupConfig.parse(args);
+
+        try (Target target = Target.start(config)) {
+            if (config.training()) {
+                train(config, target.database());
+            } else {
+                measure(config, target.database());
+            }
+        }
+    }
+
+    private static void train(StartupConfig config, AppProcess.Database database) throws Exception {
+        Files.deleteIfExists(config.train());
+        Files.createDirectories(config.train().toAbsolutePath().getParent());
+
+        List<String> jvmArgs = List.of("-XX:ArchiveClassesAtExit=" + config.train().toAbsolutePath());
+        try (AppProcess app = AppProcess.launch(config, StartupMode.parse("aot"), database, jvmArgs, "training")) {
+            Duration firstCreate = app.awaitFirstCreate(config.timeout(), "startup-training-");
+            System.out.printf("Training launch created a payment after %d ms, sending %d flows%n",
+                    firstCreate.toMillis(), config.trainingFlows());
+
+            Workload workload = new Workload(app.baseUrl());
+            Flow.Picker picker = new Flow.Picker(LoadTestConfig.parseMix(LoadTestConfig.DEFAULT_MIX), 42);
+            for (int i = 0; i < config.trainingFlows(); i++) {
+                workload.run(picker.next(), System.nanoTime());
+            }
+        }
+        if (!Files.exists(config.train())) {
+            throw new IllegalStateException("The training launch did not write " + config.train());
+        }
+        System.out.printf("CDS archive: %s (%d MB)%n",
+                config.train().toAbsolutePath(), Files.size(config.train()) >> 20);
+    }
+
+    private static void measure(StartupConfig config, AppProcess.Database database) throws Exception {
+        Instant startedAt = Instant.now();
+        String runPrefix = "startup-" + Long.toString(System.currentTimeMillis(), 36) + "-";
+
+        try (AppProcess warmup = AppProcess.launch(config, StartupMode.parse("jar"), database, List.of(), "warmup")) {
+            warmup.awaitFirstCreate(config.timeout(), runPrefix + "warmup-");
+        }
+
+        Map<String, List<Duration>> firstCreates = new LinkedHashMap<>();
+        Map<String, List<AppProcess.Started>> started = new LinkedHashMap<>();
+        for (int run = 0; run < config.runs(); run++) {
+            for (StartupMode mode : config.modes()) {
+                String name = mode.name() + "-" + run;
+                try (AppProcess app = AppProcess.launch(config, mode, database, List.of(), name)) {
+                    Duration firstCreate = app.awaitFirstCreate(config.timeout(), runPrefix + name + "-");
+                    firstCreates.computeIfAbsent(mode.name(), m -> new ArrayList<>()).add(firstCreate);
+                    app.started().ifPresent(s -> started.computeIfAbsent(mode.name(), m -> new ArrayList<>()).add(s));
+                    System.out.printf("%-24s run %d: first POST /payments after %d ms%n", mode.name(), run, firstCreate.toMillis());
+                }
+            }
+        }
+
+        Map<String, StartupReport.ModeReport> modes = new LinkedHashMap<>();
+        firstCreates.forEach((mode, durations) -> {
+            List<Double> millis = durations.stream().map(d -> d.toNanos() / 1e6).toList();
+            List<AppProcess.Started> lines = started.getOrDefault(mode, List.of());
+            modes.put(mode, new StartupReport.ModeReport(
+                    millis,
+                    median(millis),
+                    millis.stream().mapToDouble(Double::doubleValue).min().orElse(0),
+                    millis.stream().mapToDouble(Double::doubleValue).max().orElse(0),
+                    median(lines.stream().map(AppProcess.Started::contextSeconds).toList()),
+                    median(lines.stream().map(AppProcess.Started::processSeconds).toList())
+            ));
+        });
+
+        StartupReport report = new StartupReport(config.label(), startedAt, config.java(), config.runs(), modes);
+        Files.createDirectories(config.report().toAbsolutePath().getParent());
+        JsonMapper.builder()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build()
+                .writeValue(config.report().toFile(), report);
+
+        System.out.printf("%-24s %12s %9s %9s %11s %11s%n", "mode", "median ms", "min ms", "max ms", "context s", "process s");
+        report.modes().forEach((mode, r) -> System.out.printf("%-24s %12.0f %9.0f %9.0f %11.2f %11.2f%n",
+                mode, r.firstCreateMedianMs(), r.firstCreateMinMs(), r.firstCreateMaxMs(), r.contextSeconds(), r.processSeconds()));
+        System.out.printf("Report: %s%n", config.report().toAbsolutePath());
+    }
+
+    private static double median(List<Double> values) {
+        if (values.isEmpty()) return 0;
+        List<Double> sorted = values.stream().sorted().toList();
+        int mid = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2;
+    }
+
+    /*
+     * The database every launch connects to: --jdbc-url, or a throwaway Postgres (needs Docker).
+     */
+    private record Target(AppProcess.Database database, PostgreSQLContainer postgres) implements AutoCloseable {
+
+        static Target start(StartupConfig config) {
+            if (config.jdbcUrl() != null) {
+                return new Target(new AppProcess.Database(config.jdbcUrl(), config.dbUsername(), config.dbPassword()), null);
+            }
+
+            PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:16"));
+            postgres.start();
+            return new Target(
+                    new AppProcess.Database(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()),
+                    postgres);
+        }
+
+        @Override
+        public void close() {
+            if (postgres != null) postgres.stop();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.eunseok.payment.loadtest;
+
+import java.util.Set;
+
+/*
+ * How the startup benchmark launches the application:
+ *
+ * jar        - java -jar on the executable jar (nested jars), as deployed today
+ * extracted  - java -jar on the extracted jar (application and libraries as plain files)
+ * aot        - -Dspring.aot.enabled=true: bean definitions generated at build time (processAot)
+ * cds        - -XX:SharedArchiveFile: classes mapped from the archive recorded by cdsArchive
+ * no-migrate - payment.flyway.migrate=false, as on instances that start against a migrated schema
+ *
+ * Options combine with '+' (e.g. aot+cds+no-migrate) and run on the extracted jar.
+ */
+record StartupMode(String name, boolean extracted, boolean aot, boolean cds, boolean migrate) {
+    private static final Set<String> OPTIONS = Set.of("aot", "cds", "no-migrate");
+
+    static StartupMode parse(String spec) {
+        String name = spec.trim();
+        if (name.equals("jar")) return new StartupMode(name, false, false, false, true);
+        if (name.equals("extracted")) return new StartupMode(name, true, false, false, true);
+
+        Set<String> options = Set.of(name.split("\\+"));
+        if (!OPTIONS.containsAll(options)) {
+            throw new IllegalArgumentException("Unknown startup mode: " + spec + " (jar, extracted or a '+' combination of " + OPTIONS + ")");
+        }
+        return new StartupMode(name, true, options.contains("aot"), options.contains("cds"), !options.contains("no-migrate"));
+    }
+}
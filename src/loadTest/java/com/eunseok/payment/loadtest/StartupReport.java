@@ -0,0 +1,28 @@
+package com.eunseok.payment.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Result of one startup benchmark (build/reports/startup/report.json), per mode in run order.
+ * firstCreate* in milliseconds from process spawn to the first 2xx POST /payments;
+ * context / process seconds from Spring's "Started ..." log line (medians).
+ */
+record StartupReport(
+        String label,
+        Instant startedAt,
+        String java,
+        int runs,
+        Map<String, ModeReport> modes
+) {
+    record ModeReport(
+            List<Double> firstCreateMs,
+            double firstCreateMedianMs,
+            double firstCreateMinMs,
+            double firstCreateMaxMs,
+            double contextSeconds,
+            double processSeconds
+    ) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.eunseok.payment.loadtest;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs flows against the HTTP API and records every request.
+ *
+ * The first request of a flow is timed from the flow's intended start, not
+ * from when it was actually sent: in the open model a stalled server delays
+ * the start of later flows, and measuring from the send time would hide that
+ * queueing (coordinated omission). Follow-up requests in a flow are timed
+ * from their own send.
+ */
+final class Workload {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int RECENT_PAYMENTS = 4096;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final String baseUrl;
+    // Idempotency keys are prefixed per run, so repeated runs against one database do not replay each other
+    private final String keyPrefix = "lt-" + Long.toString(System.currentTimeMillis(), 36) + "-";
+    private final AtomicLong keySequence = new AtomicLong();
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final EndpointStats total = new EndpointStats();
+    private final LongAdder flowsStarted = new LongAdder();
+    private final LongAdder flowsCompleted = new LongAdder();
+
+    // Ring of recently created payment ids, polled by READ flows
+    private final AtomicReferenceArray<String> recent = new AtomicReferenceArray<>(RECENT_PAYMENTS);
+    private final AtomicLong recentCursor = new AtomicLong();
+
+    Workload(String baseUrl) {
+        this.baseUrl = baseUrl;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    void run(Flow flow, long intendedStartNanos) {
+        flowsStarted.increment();
+        boolean completed = switch (flow) {
+            case SETTLE -> {
+                String id = create(nextKey(), intendedStartNanos);
+                yield id != null
+                        && transition(id, Endpoint.AUTHORIZE)
+                        && transition(id, Endpoint.SETTLE);
+            }
+            case CANCEL -> {
+                String id = create(nextKey(), intendedStartNanos);
+                yield id != null
+                        && transition(id, Endpoint.AUTHORIZE)
+                        && transition(id, Endpoint.CANCEL);
+            }
+            case REVERSE -> {
+                String id = create(nextKey(), intendedStartNanos);
+                yield id != null
+                        && transition(id, Endpoint.AUTHORIZE)
+                        && transition(id, Endpoint.SETTLE)
+                        && transition(id, Endpoint.REVERSE);
+            }
+            case RETRY -> {
+                String key = nextKey();
+                yield create(key, intendedStartNanos) != null
+                        && send(Endpoint.CREATE_REPLAY, createRequest(key), System.nanoTime()) != null;
+            }
+            case READ -> {
+                String id = recentPaymentId();
+                // Nothing to poll yet: the first flows of a run create instead
+                yield id == null
+                        ? create(nextKey(), intendedStartNanos) != null
+                        : send(Endpoint.GET, request("/payments/" + id).GET().build(), intendedStartNanos) != null;
+            }
+        };
+        if (completed) flowsCompleted.increment();
+    }
+
+    void reset() {
+        stats.values().forEach(EndpointStats::reset);
+        total.reset();
+        flowsStarted.reset();
+        flowsCompleted.reset();
+    }
+
+    LoadTestReport report(LoadTestConfig config, Instant startedAt, double seconds) {
+        Map<Endpoint, LoadTestReport.EndpointReport> endpoints = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, s) -> endpoints.put(endpoint, s.report(seconds)));
+        return new LoadTestReport(
+                config.label(),
+                startedAt,
+                config.closedModel() ? "closed" : "open",
+                config.closedModel() ? 0 : config.rate(),
+                config.concurrency(),
+                config.mix(),
+                config.seed(),
+                seconds,
+                flowsStarted.sum(),
+                flowsCompleted.sum(),
+                total.report(seconds),
+                endpoints
+        );
+    }
+
+    private String create(String key, long startNanos) {
+        HttpResponse<String> response = send(Endpoint.CREATE, createRequest(key), startNanos);
+        if (response == null) return null;
+        String paymentId = objectMapper.readTree(response.body()).get("paymentId").asString();
+        recent.set((int) (recentCursor.getAndIncrement() % RECENT_PAYMENTS), paymentId);
+        return paymentId;
+    }
+
+    private boolean transition(String paymentId, Endpoint endpoint) {
+        String action = endpoint.name().toLowerCase();
+        HttpRequest request = request("/payments/" + paymentId + "/" + action)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(endpoint, request, System.nanoTime()) != null;
+    }
+
+    private HttpRequest createRequest(String idempotencyKey) {
+        String body = """
+                {"amount":%d,"currency":"CAD","paymentMethod":"CARD","description":"load test"}"""
+                .formatted(1000 + (idempotencyKey.hashCode() & 0xfff));
+        return request("/payments")
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    /*
+     * Returns the response if it was 2xx, null otherwise. Every outcome is recorded.
+     */
+    private HttpResponse<String> send(Endpoint endpoint, HttpRequest request, long startNanos) {
+        HttpResponse<String> response = null;
+        int status = 0;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+        } catch (IOException e) {
+            // transport failure, recorded as status 0
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean ok = status >= 200 && status < 300;
+        long latency = System.nanoTime() - startNanos;
+        stats.get(endpoint).record(latency, status, ok);
+        total.record(latency, status, ok);
+        return ok ? response : null;
+    }
+
+    private String nextKey() {
+        return keyPrefix + keySequence.incrementAndGet();
+    }
+
+    private String recentPaymentId() {
+        long written = recentCursor.get();
+        if (written == 0) return null;
+        long slot = Math.floorMod(Long.hashCode(System.nanoTime() ^ written), Math.min(written, RECENT_PAYMENTS));
+        return recent.get((int) slot);
+    }
+}
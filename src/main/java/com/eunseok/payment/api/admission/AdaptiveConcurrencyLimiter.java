@@ -0,0 +1,129 @@
+package com.eunseok.payment.api.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit with a short bounded wait queue, adapted by AIMD.
+ *
+ * A response slower than the target latency (or a 5xx) multiplies the limit
+ * by {@value #BACKOFF_RATIO}; a fast one adds 1/limit, i.e. about +1 per
+ * limit's worth of fast responses. The limit only grows while at least half
+ * of it is in use, so an idle service does not drift up to maxLimit.
+ *
+ * The decrease applies at most once per window: only a request that started
+ * after the last decrease can trigger the next one. When one spike makes the
+ * whole in-flight window slow, those requests all saw the same overload and
+ * shrink the limit once, not once each.
+ *
+ * Uses a ReentrantLock rather than synchronized so waiting virtual threads
+ * unmount instead of pinning their carrier.
+ */
+final class AdaptiveConcurrencyLimiter {
+    static final double BACKOFF_RATIO = 0.9;
+
+    enum Outcome { ADMITTED, QUEUED, SHED }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long targetLatencyNanos;
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    AdaptiveConcurrencyLimiter(AdmissionProperties.Budget budget) {
+        this.minLimit = Math.max(1, budget.minLimit());
+        this.maxLimit = Math.max(minLimit, budget.maxLimit());
+        this.queueSize = Math.max(0, budget.queueSize());
+        this.targetLatencyNanos = budget.targetLatency().toNanos();
+        this.limit = Math.clamp(budget.initialLimit(), minLimit, maxLimit);
+    }
+
+    Outcome acquire(long maxWait, TimeUnit unit) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return Outcome.ADMITTED;
+            }
+            if (waiting >= queueSize || maxWait <= 0) {
+                return Outcome.SHED;
+            }
+            waiting++;
+            try {
+                long remaining = unit.toNanos(maxWait);
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return Outcome.SHED;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                inFlight++;
+                return Outcome.QUEUED;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * startNanos / endNanos: System.nanoTime() around the request.
+     * sample = false releases the slot without adapting (e.g. long-lived streams).
+     */
+    void release(long startNanos, long endNanos, boolean failed, boolean sample) {
+        lock.lock();
+        try {
+            int used = inFlight--;
+            if (sample) {
+                if (failed || endNanos - startNanos > targetLatencyNanos) {
+                    if (!decreased || startNanos - lastDecreaseNanos >= 0) {
+                        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                        decreased = true;
+                        lastDecreaseNanos = endNanos;
+                    }
+                } else if (used * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                }
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
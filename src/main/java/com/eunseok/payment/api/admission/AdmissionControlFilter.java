@@ -0,0 +1,204 @@
+package com.eunseok.payment.api.admission;
+
+import com.eunseok.payment.api.admission.AdaptiveConcurrencyLimiter.Outcome;
+import com.eunseok.payment.api.dto.ApiErrorResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the DB-bound endpoints.
+ *
+ * Each class of request has its own adaptive concurrency budget (see
+ * {@link AdaptiveConcurrencyLimiter}), so a burst of creates cannot starve
+ * reads and vice versa. A request either gets a slot, waits briefly in a
+ * bounded queue, or is rejected at once with 503 + Retry-After, instead of
+ * holding a thread while it queues for a Hikari connection until timeout.
+ *
+ * Requests run on virtual threads (spring.threads.virtual.enabled), so a
+ * queued request parks without tying up a platform thread.
+ *
+ * The budgets only help while admitted requests find a free connection, so
+ * startup fails when their max limits do not fit in the primary pool.
+ *
+ * Metrics, tagged with the budget:
+ *  - payment.admission.requests{outcome=admitted|queued|shed}
+ *  - payment.admission.limit / inflight / waiting (gauges)
+ */
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    enum Budget { CREATE, TRANSITIONS, READS }
+
+    private final AdmissionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<Budget, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Budget.class);
+    private final Map<Budget, Map<Outcome, Counter>> counters = new EnumMap<>(Budget.class);
+
+    public AdmissionControlFilter(
+            AdmissionProperties properties,
+            ObjectProvider<HikariDataSource> primaryPool,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        HikariDataSource pool = primaryPool.getIfUnique();
+        if (properties.enabled() && pool != null) {
+            checkFitsPool(properties, pool.getMaximumPoolSize());
+        }
+
+        for (Budget budget : Budget.values()) {
+            var limiter = new AdaptiveConcurrencyLimiter(settings(budget));
+            String tag = budget.name().toLowerCase();
+            limiters.put(budget, limiter);
+
+            Map<Outcome, Counter> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Counter.builder("payment.admission.requests")
+                        .description("Requests by admission outcome")
+                        .tag("budget", tag)
+                        .tag("outcome", outcome.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+            counters.put(budget, byOutcome);
+
+            Gauge.builder("payment.admission.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .tag("budget", tag).register(meterRegistry);
+            Gauge.builder("payment.admission.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                    .tag("budget", tag).register(meterRegistry);
+            Gauge.builder("payment.admission.waiting", limiter, AdaptiveConcurrencyLimiter::waiting)
+                    .tag("budget", tag).register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Budget budget = properties.enabled() ? classify(request) : null;
+        if (budget == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(budget);
+        Outcome outcome;
+        try {
+            outcome = limiter.acquire(settings(budget).maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Outcome.SHED;
+        }
+        counters.get(budget).get(outcome).increment();
+
+        if (outcome == Outcome.SHED) {
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+            if (request.isAsyncStarted()) {
+                // streamed responses hold the slot until done, but are too long to be a latency sample
+                async = true;
+                request.getAsyncContext().addListener(new ReleaseOnComplete(limiter));
+            }
+        } finally {
+            if (!async) {
+                limiter.release(start, System.nanoTime(), failed, true);
+            }
+        }
+    }
+
+    /*
+     * Every budget at its max limit, plus the reserved connections, must not need more than the pool.
+     */
+    static void checkFitsPool(AdmissionProperties properties, int poolSize) {
+        int limits = properties.create().maxLimit() + properties.transitions().maxLimit() + properties.reads().maxLimit();
+        if (limits + properties.reservedConnections() > poolSize) {
+            throw new IllegalStateException("payment.admission max limits (" + limits + ") plus reserved-connections ("
+                    + properties.reservedConnections() + ") exceed spring.datasource.hikari.maximum-pool-size ("
+                    + poolSize + ")");
+        }
+    }
+
+    /*
+     * create      : POST /payments, POST /payments/batch
+     * transitions : POST /payments/{id}/{action}, POST /settlements/**
+     * reads       : GET /payments/**, /accounts/**, /settlements/**
+     * none        : GET /payments/{id}/await (parked without a connection, bounded by payment.await.max-waiters)
+     */
+    static Budget classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean payments = path.equals("/payments") || path.startsWith("/payments/");
+        boolean other = path.startsWith("/accounts/") || path.startsWith("/settlements/");
+        if (!payments && !other) return null;
+
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method)) return path.endsWith("/await") ? null : Budget.READS;
+        if (!HttpMethod.POST.matches(method)) return null;
+
+        if (path.equals("/payments") || path.equals("/payments/batch")) return Budget.CREATE;
+        return Budget.TRANSITIONS;
+    }
+
+    private AdmissionProperties.Budget settings(Budget budget) {
+        return switch (budget) {
+            case CREATE -> properties.create();
+            case TRANSITIONS -> properties.transitions();
+            case READS -> properties.reads();
+        };
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        long seconds = Math.max(1, (properties.retryAfter().toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(
+                ApiErrorResponse.of("OVERLOADED", "Server is busy, retry later")));
+    }
+
+    private record ReleaseOnComplete(AdaptiveConcurrencyLimiter limiter) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(0, 0, false, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
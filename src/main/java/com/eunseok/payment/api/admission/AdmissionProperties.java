@@ -0,0 +1,40 @@
+package com.eunseok.payment.api.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.admission.*
+ *
+ * retryAfter          - value of the Retry-After header on 503
+ * reservedConnections - primary pool connections kept out of the budgets: the LISTEN
+ *                       connection and whatever background jobs the node runs.
+ *                       Startup fails unless reservedConnections plus every maxLimit
+ *                       fits in spring.datasource.hikari.maximum-pool-size.
+ * create / transitions / reads - one concurrency budget each:
+ *   initialLimit, minLimit, maxLimit - concurrent requests; the limit moves between min and max
+ *   queueSize     - requests allowed to wait for a slot; beyond that they are shed at once
+ *   maxWait       - how long a queued request waits before it is shed
+ *   targetLatency - responses slower than this shrink the limit, faster ones grow it
+ */
+@ConfigurationProperties(prefix = "payment.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("1") int reservedConnections,
+        @DefaultValue Budget create,
+        @DefaultValue Budget transitions,
+        @DefaultValue Budget reads
+) {
+    public record Budget(
+            @DefaultValue("2") int initialLimit,
+            @DefaultValue("1") int minLimit,
+            @DefaultValue("3") int maxLimit,
+            @DefaultValue("32") int queueSize,
+            @DefaultValue("50ms") Duration maxWait,
+            @DefaultValue("250ms") Duration targetLatency
+    ) {
+    }
+}
@@ -6,8 +6,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponseException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
@@ -72,6 +74,30 @@ public class GlobalExceptionHandler {
                 .body(ApiErrorResponse.of("VALIDATION_FAILED", msg));
     }
 
+    /**
+     * 3-1) Handles missing or malformed query/path parameters.
+     *
+     * Example:
+     *  - GET /payments without the required status
+     *  - status=UNKNOWN, from=not-a-timestamp
+     *
+     * Always returns HTTP 400 naming the offending parameter.
+     */
+    @ExceptionHandler({
+            MissingServletRequestParameterException.class,
+            MethodArgumentTypeMismatchException.class
+    })
+    public ResponseEntity<ApiErrorResponse> handleBadParameter(Exception e) {
+        String msg = switch (e) {
+            case MissingServletRequestParameterException m -> m.getParameterName() + ": is required";
+            case MethodArgumentTypeMismatchException m -> m.getName() + ": invalid value";
+            default -> "Invalid request parameter";
+        };
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiErrorResponse.of("BAD_REQUEST", msg));
+    }
+
     /**
      * 4) Handles domain-level illegal state transitions.
      *
@@ -0,0 +1,28 @@
+package com.eunseok.payment.api.controller;
+
+import com.eunseok.payment.api.dto.AccountBalanceResponse;
+import com.eunseok.payment.application.ledger.AccountBalanceService;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/accounts")
+public class AccountController {
+    private final AccountBalanceService accountBalanceService;
+
+    public AccountController(AccountBalanceService accountBalanceService) {
+        this.accountBalanceService = accountBalanceService;
+    }
+
+    /*
+     * Account balance per currency, now or as of a point in time
+     */
+    @GetMapping("/{accountKey}/balance")
+    public AccountBalanceResponse balance(
+            @PathVariable String accountKey,
+            @RequestParam(required = false) Instant asOf
+    ) {
+        return accountBalanceService.getBalance(accountKey, asOf);
+    }
+}
@@ -1,33 +1,65 @@
 package com.eunseok.payment.api.controller;
 
 import com.eunseok.payment.api.dto.*;
+import com.eunseok.payment.application.await.PaymentStatusWaiters;
+import com.eunseok.payment.application.service.PaymentQueryService;
 import com.eunseok.payment.application.service.PaymentService;
+import com.eunseok.payment.domain.model.PaymentStatus;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/payments")
 public class PaymentController {
     private final PaymentService paymentService;
+    private final PaymentQueryService paymentQueryService;
+    private final PaymentStatusWaiters paymentStatusWaiters;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(
+            PaymentService paymentService,
+            PaymentQueryService paymentQueryService,
+            PaymentStatusWaiters paymentStatusWaiters
+    ) {
         this.paymentService = paymentService;
+        this.paymentQueryService = paymentQueryService;
+        this.paymentStatusWaiters = paymentStatusWaiters;
     }
 
     /*
      * Create: Create a new payment intent (no money moved yet)
      */
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public CreatePaymentResponse create(
+    public ResponseEntity<?> create(
             @RequestHeader(value = "Idempotency-key", required = false) String idempotencyKey,
             @RequestBody @Valid CreatePaymentRequest request
             ) {
+        // Retries of a completed request are replayed as stored bytes (no DB, no deserialization)
+        var cached = paymentService.findCachedReplay(request, idempotencyKey);
+        if (cached.isPresent()) {
+            return ResponseEntity.status(cached.get().responseCode())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(cached.get().body());
+        }
 
-        return paymentService.createPayment(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(paymentService.createPayment(request, idempotencyKey));
+    }
+    /*
+     * Batch create: Create many payment intents in one transaction (one idempotency key per item)
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CreatePaymentBatchResponse createBatch(@RequestBody @Valid CreatePaymentBatchRequest request) {
+        return paymentService.createPayments(request.payments());
     }
     /*
     * Authorize: Reserve funds from the payment method
@@ -69,12 +101,47 @@ public class PaymentController {
     public PaymentResponse reverse(@PathVariable String paymentId) {
         return paymentService.reverse(paymentId);
     }
+    /*
+     * Payment listing for operations: one status, optional time range and currency, keyset paged
+     */
+    @GetMapping
+    public PaymentPageResponse list(
+            @RequestParam PaymentStatus status,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return paymentQueryService.searchPayments(status, from, to, currency, cursor, limit);
+    }
     /*
      * Current Payment Status
+     * Served as cached bytes with a strong ETag; a matching If-None-Match gets 304 (no body)
      */
     @GetMapping("/{paymentId}")
-    public PaymentResponse get(@PathVariable String paymentId) {
-        return paymentService.getPayment(paymentId);
+    public ResponseEntity<byte[]> get(@PathVariable String paymentId) {
+        var snapshot = paymentService.getPayment(paymentId);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
+    }
+
+    /*
+     * Await: long-poll until the payment reaches status (or no longer can), at most timeout seconds
+     * Answers with the current payment either way; the request holds no thread while parked
+     */
+    @GetMapping("/{paymentId}/await")
+    public CompletableFuture<ResponseEntity<byte[]>> await(
+            @PathVariable String paymentId,
+            @RequestParam PaymentStatus status,
+            @RequestParam(defaultValue = "30") int timeout
+    ) {
+        return paymentStatusWaiters.await(paymentId, status, Duration.ofSeconds(timeout))
+                .thenApply(snapshot -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(snapshot.body()));
     }
 
     /*
@@ -84,4 +151,28 @@ public class PaymentController {
     public List<PaymentEventResponse> events(@PathVariable String paymentId) {
         return paymentService.getPaymentEvents(paymentId);
     }
+
+    /*
+     * Payment Event History, one keyset page at a time
+     */
+    @GetMapping("/{paymentId}/events/page")
+    public PaymentEventPageResponse eventsPage(
+            @PathVariable String paymentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return paymentService.getPaymentEventsPage(paymentId, cursor, limit);
+    }
+
+    /*
+     * Payment Event History, streamed as NDJSON while it is read
+     */
+    @GetMapping(value = "/{paymentId}/events/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEvents(@PathVariable String paymentId) {
+        paymentService.assertPaymentExists(paymentId);
+        StreamingResponseBody body = out -> paymentService.streamPaymentEvents(paymentId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
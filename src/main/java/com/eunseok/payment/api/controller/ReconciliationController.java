@@ -0,0 +1,32 @@
+package com.eunseok.payment.api.controller;
+
+import com.eunseok.payment.api.dto.ReconciliationReportResponse;
+import com.eunseok.payment.application.reconciliation.ReconciliationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reconciliations")
+public class ReconciliationController {
+    private final ReconciliationService reconciliationService;
+
+    public ReconciliationController(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    /*
+     * Start: Check every payment's status against its event history, in the background
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReconciliationReportResponse start() {
+        return reconciliationService.start();
+    }
+    /*
+     * Report: Progress of the running reconciliation, or the last report
+     */
+    @GetMapping("/latest")
+    public ReconciliationReportResponse latest() {
+        return reconciliationService.latest();
+    }
+}
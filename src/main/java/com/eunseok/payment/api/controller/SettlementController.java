@@ -0,0 +1,43 @@
+package com.eunseok.payment.api.controller;
+
+import com.eunseok.payment.api.dto.SettlementRunResponse;
+import com.eunseok.payment.api.dto.StartSettlementRunRequest;
+import com.eunseok.payment.application.settlement.BulkSettlementService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/settlements/runs")
+public class SettlementController {
+    private final BulkSettlementService bulkSettlementService;
+
+    public SettlementController(BulkSettlementService bulkSettlementService) {
+        this.bulkSettlementService = bulkSettlementService;
+    }
+
+    /*
+     * Start: Settle every AUTHORIZED payment created before the cutoff, in the background
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SettlementRunResponse start(@RequestBody(required = false) @Valid StartSettlementRunRequest request) {
+        var req = request == null ? new StartSettlementRunRequest(null, null, null) : request;
+        return bulkSettlementService.start(req.createdBefore(), req.workers(), req.chunkSize());
+    }
+    /*
+     * Progress: Payments settled and chunks committed so far
+     */
+    @GetMapping("/{runId}")
+    public SettlementRunResponse get(@PathVariable String runId) {
+        return bulkSettlementService.get(runId);
+    }
+    /*
+     * Resume: Continue a failed or interrupted run where it stopped
+     */
+    @PostMapping("/{runId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SettlementRunResponse resume(@PathVariable String runId) {
+        return bulkSettlementService.resume(runId);
+    }
+}
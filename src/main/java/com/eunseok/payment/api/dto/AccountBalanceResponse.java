@@ -0,0 +1,21 @@
+package com.eunseok.payment.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AccountBalanceResponse(
+        String accountKey,
+        Instant asOf,
+        List<CurrencyBalance> balances
+) {
+    /*
+     * balance = credits - debits
+     */
+    public record CurrencyBalance(
+            String currency,
+            long debits,
+            long credits,
+            long balance
+    ) {
+    }
+}
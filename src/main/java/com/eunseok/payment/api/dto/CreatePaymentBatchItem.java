@@ -0,0 +1,12 @@
+package com.eunseok.payment.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CreatePaymentBatchItem(
+        @NotBlank @Size(max = 128) String idempotencyKey,
+        @NotNull @Valid CreatePaymentRequest payment
+) {
+}
@@ -0,0 +1,12 @@
+package com.eunseok.payment.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreatePaymentBatchRequest(
+        @NotEmpty @Size(max = 500) List<@Valid CreatePaymentBatchItem> payments
+) {
+}
@@ -0,0 +1,8 @@
+package com.eunseok.payment.api.dto;
+
+import java.util.List;
+
+public record CreatePaymentBatchResponse(
+        List<CreatePaymentResponse> payments
+) {
+}
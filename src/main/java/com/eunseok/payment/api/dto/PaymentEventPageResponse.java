@@ -0,0 +1,9 @@
+package com.eunseok.payment.api.dto;
+
+import java.util.List;
+
+public record PaymentEventPageResponse(
+        List<PaymentEventResponse> events,
+        String nextCursor
+) {
+}
@@ -0,0 +1,28 @@
+package com.eunseok.payment.api.dto;
+
+import com.eunseok.payment.domain.model.DiscrepancyType;
+import com.eunseok.payment.domain.model.ReconciliationStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * discrepancies: count per type over all payments; samples: the first few, for a look at the rows
+ * truncatedHistories: payments older than the oldest payment_events partition, checked on what is left
+ */
+public record ReconciliationReportResponse(
+        ReconciliationStatus status,
+        int shards,
+        long paymentsChecked,
+        long eventsChecked,
+        long truncatedHistories,
+        Map<DiscrepancyType, Long> discrepancies,
+        List<Discrepancy> samples,
+        String lastError,
+        Instant startedAt,
+        Instant finishedAt
+) {
+    public record Discrepancy(String paymentId, DiscrepancyType type, String detail) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.eunseok.payment.api.dto;
+
+import com.eunseok.payment.domain.model.SettlementRunStatus;
+
+import java.time.Instant;
+
+public record SettlementRunResponse(
+        String runId,
+        SettlementRunStatus status,
+        Instant createdBefore,
+        int workers,
+        int chunkSize,
+        long settledCount,
+        long chunkCount,
+        String lastError,
+        Instant startedAt,
+        Instant updatedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.eunseok.payment.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.time.Instant;
+
+/*
+ * All fields optional: cutoff defaults to now, workers / chunkSize to payment.settlement.*
+ */
+public record StartSettlementRunRequest(
+        Instant createdBefore,
+        @Min(1) @Max(32) Integer workers,
+        @Min(1) @Max(10000) Integer chunkSize
+) {
+}
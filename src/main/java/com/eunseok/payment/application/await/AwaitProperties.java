@@ -0,0 +1,24 @@
+package com.eunseok.payment.application.await;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.await.*
+ *
+ * maxTimeout       - upper bound for the timeout a client may ask for
+ * maxWaiters       - parked requests per node; beyond that /await answers 503
+ * pollInterval     - how long the listener blocks for notifications before checking for shutdown
+ * reconnectBackoff - pause before the listener reconnects after losing its connection
+ */
+@ConfigurationProperties(prefix = "payment.await")
+public record AwaitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration maxTimeout,
+        @DefaultValue("10000") int maxWaiters,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("1s") Duration reconnectBackoff
+) {
+}
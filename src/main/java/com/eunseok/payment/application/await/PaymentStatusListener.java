@@ -0,0 +1,140 @@
+package com.eunseok.payment.application.await;
+
+import com.eunseok.payment.application.cache.PaymentSnapshotCache;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The node's single LISTEN connection on the payment_status channel
+ * (see V9__payment_status_notify.sql).
+ *
+ * One platform thread blocks on the connection and fans each committed status
+ * change out to the in-process waiters and the near-cache. The connection is
+ * taken from the primary pool and kept for the lifetime of the node, so the
+ * pool has one connection less for requests. When it breaks, the listener
+ * reconnects and rechecks the parked waiters for changes it missed.
+ */
+@Slf4j
+@Component
+public class PaymentStatusListener implements SmartLifecycle {
+    static final String CHANNEL = "payment_status";
+
+    private final DataSource dataSource;
+    private final PaymentStatusWaiters waiters;
+    private final PaymentSnapshotCache paymentSnapshotCache;
+    private final AwaitProperties properties;
+    private final Counter notifications;
+    private final Counter reconnects;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public PaymentStatusListener(
+            DataSource dataSource,
+            PaymentStatusWaiters waiters,
+            PaymentSnapshotCache paymentSnapshotCache,
+            AwaitProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.dataSource = dataSource;
+        this.waiters = waiters;
+        this.paymentSnapshotCache = paymentSnapshotCache;
+        this.properties = properties;
+        this.notifications = Counter.builder("payment.await.notifications")
+                .description("payment_status notifications received")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("payment.await.listener.reconnects")
+                .description("LISTEN connection re-established after a failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) return;
+        running = true;
+        thread = Thread.ofPlatform().daemon().name("payment-status-listener").start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.pollInterval().multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                if (reconnect) {
+                    reconnects.increment();
+                    waiters.recheckAll();
+                }
+                reconnect = true;
+
+                int timeoutMillis = (int) properties.pollInterval().toMillis();
+                while (running) {
+                    PGNotification[] received = pg.getNotifications(timeoutMillis);
+                    if (received == null) continue;
+                    for (PGNotification notification : received) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("LISTEN {} connection lost, reconnecting: {}", CHANNEL, e.getMessage());
+                reconnect = true;
+                try {
+                    Thread.sleep(properties.reconnectBackoff());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /*
+     * payload = '<payment_id>:<status>'
+     */
+    private void dispatch(String payload) {
+        notifications.increment();
+        int separator = payload.lastIndexOf(':');
+        if (separator < 0) return;
+
+        String paymentId = payload.substring(0, separator);
+        PaymentStatus status;
+        try {
+            status = PaymentStatus.valueOf(payload.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        paymentSnapshotCache.statusChanged(paymentId, status);
+        waiters.statusChanged(paymentId, status);
+    }
+}
@@ -0,0 +1,150 @@
+package com.eunseok.payment.application.await;
+
+import com.eunseok.payment.application.cache.PaymentSnapshotCache.PaymentSnapshot;
+import com.eunseok.payment.application.service.PaymentService;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process registry of GET /payments/{id}/await requests.
+ *
+ * A waiter is a CompletableFuture parked in a map, not a thread: the servlet
+ * request runs asynchronously, so no thread (platform or virtual) is held
+ * while it waits. PaymentStatusListener feeds status changes in from the
+ * node's single LISTEN connection; a waiter completes when its payment
+ * reaches the awaited status, when that status can no longer be reached, or
+ * on timeout. The response is then read from the primary on a virtual thread.
+ *
+ * A waiter is registered before the current status is checked, so a change
+ * committed in between is either seen by the check or delivered as a
+ * notification.
+ */
+@Component
+public class PaymentStatusWaiters {
+    private enum Outcome { REACHED, UNREACHABLE, TIMEOUT }
+
+    private final PaymentService paymentService;
+    private final AwaitProperties properties;
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ExecutorService responses = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+    public PaymentStatusWaiters(PaymentService paymentService, AwaitProperties properties, MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.properties = properties;
+
+        Gauge.builder("payment.await.waiters", waiting, AtomicInteger::get)
+                .description("Parked await requests")
+                .register(meterRegistry);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder("payment.await.completions")
+                    .description("Await requests by outcome")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    public CompletableFuture<PaymentSnapshot> await(String paymentId, PaymentStatus target, Duration timeout) {
+        if (!properties.enabled()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Await is disabled");
+        }
+        if (waiting.incrementAndGet() > properties.maxWaiters()) {
+            waiting.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many waiting requests");
+        }
+
+        Waiter waiter = new Waiter(target, new CompletableFuture<>());
+        waiters.compute(paymentId, (id, set) -> {
+            Set<Waiter> s = set != null ? set : ConcurrentHashMap.newKeySet();
+            s.add(waiter);
+            return s;
+        });
+        waiter.outcome().whenComplete((outcome, e) -> remove(paymentId, waiter));
+
+        PaymentSnapshot current;
+        try {
+            current = paymentService.getPaymentFromPrimary(paymentId);
+        } catch (RuntimeException e) {
+            waiter.outcome().cancel(false);
+            throw e;
+        }
+        offer(waiter, current.payment().status());
+        if (waiter.outcome().isDone()) {
+            outcomes.get(waiter.outcome().join()).increment();
+            return CompletableFuture.completedFuture(current);
+        }
+
+        long timeoutMillis = Math.clamp(timeout.toMillis(), 0, properties.maxTimeout().toMillis());
+        return waiter.outcome()
+                .completeOnTimeout(Outcome.TIMEOUT, timeoutMillis, TimeUnit.MILLISECONDS)
+                .thenApplyAsync(outcome -> {
+                    outcomes.get(outcome).increment();
+                    return paymentService.getPaymentFromPrimary(paymentId);
+                }, responses);
+    }
+
+    /*
+     * A committed status change, from the LISTEN connection.
+     */
+    void statusChanged(String paymentId, PaymentStatus status) {
+        Set<Waiter> set = waiters.get(paymentId);
+        if (set == null) return;
+        for (Waiter waiter : set) {
+            offer(waiter, status);
+        }
+    }
+
+    /*
+     * Notifications sent while the listener was disconnected are lost:
+     * re-read every awaited payment once it is connected again.
+     */
+    void recheckAll() {
+        List<String> paymentIds = List.copyOf(waiters.keySet());
+        responses.execute(() -> {
+            for (String paymentId : paymentIds) {
+                try {
+                    statusChanged(paymentId, paymentService.getPaymentFromPrimary(paymentId).payment().status());
+                } catch (ResponseStatusException e) {
+                    // deleted meanwhile: its waiters run into their timeout
+                }
+            }
+        });
+    }
+
+    private static void offer(Waiter waiter, PaymentStatus status) {
+        if (status == waiter.target()) {
+            waiter.outcome().complete(Outcome.REACHED);
+        } else if (!status.canReach(waiter.target())) {
+            waiter.outcome().complete(Outcome.UNREACHABLE);
+        }
+    }
+
+    private void remove(String paymentId, Waiter waiter) {
+        waiters.computeIfPresent(paymentId, (id, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+        waiting.decrementAndGet();
+    }
+
+    private record Waiter(PaymentStatus target, CompletableFuture<Outcome> outcome) {
+    }
+}
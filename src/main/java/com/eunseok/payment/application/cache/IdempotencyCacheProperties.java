@@ -0,0 +1,21 @@
+package com.eunseok.payment.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/*
+ * payment.idempotency.cache.*
+ *
+ * maxSize - memory budget for cached responses (keys + hashes + response bytes)
+ * ttl     - how long a SUCCEEDED response is replayed from memory
+ */
+@ConfigurationProperties(prefix = "payment.idempotency.cache")
+public record IdempotencyCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
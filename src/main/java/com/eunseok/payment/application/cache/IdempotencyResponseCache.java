@@ -0,0 +1,92 @@
+package com.eunseok.payment.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * In-process cache of completed (SUCCEEDED) idempotent responses.
+ *
+ * Retries of POST /payments are answered from here without a DB round trip
+ * and without parsing the stored JSON: the response is kept as the bytes
+ * that go on the wire.
+ *
+ * The database stays the source of truth. A miss (evicted, expired, other node)
+ * simply falls back to the idempotency_keys lookup.
+ */
+@Component
+public class IdempotencyResponseCache {
+    // Rough per-entry overhead (entry node, record, array headers) used by the weigher
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final boolean enabled;
+    private final Cache<String, CachedResponse> cache;
+
+    public IdempotencyResponseCache(IdempotencyCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, CachedResponse value) -> weigh(key, value))
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "idempotency.responses");
+    }
+
+    public CachedResponse get(String idempotencyKey) {
+        if (!enabled) return null;
+        return cache.getIfPresent(idempotencyKey);
+    }
+
+    /*
+     * Caches a response that is already committed (e.g. replayed from the DB).
+     */
+    public void put(String idempotencyKey, String requestHash, int responseCode, String responseJson) {
+        if (!enabled) return;
+        cache.put(idempotencyKey, new CachedResponse(
+                requestHash,
+                responseCode,
+                responseJson.getBytes(StandardCharsets.UTF_8)
+        ));
+    }
+
+    /*
+     * Caches a response produced by the current transaction once it commits.
+     * A rolled back transaction never reaches the cache.
+     */
+    public void putAfterCommit(String idempotencyKey, String requestHash, int responseCode, String responseJson) {
+        if (!enabled) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(idempotencyKey, requestHash, responseCode, responseJson);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(idempotencyKey, requestHash, responseCode, responseJson);
+            }
+        });
+    }
+
+    private static int weigh(String key, CachedResponse value) {
+        long bytes = ENTRY_OVERHEAD_BYTES
+                + 2L * key.length()
+                + 2L * value.requestHash().length()
+                + value.body().length;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    public record CachedResponse(
+            String requestHash,
+            int responseCode,
+            byte[] body
+    ) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.eunseok.payment.application.cache;
+
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-process near-cache of GET /payments/{paymentId} responses.
+ *
+ * Each entry is the payment at one version, already serialized, with its
+ * strong ETag, so a hit skips the DB and the JSON writer, and a poll with a
+ * matching If-None-Match is answered 304 without a body.
+ *
+ * Transitions committed on this instance replace the entry after commit; an
+ * entry is only ever replaced by the same or a newer version, so a read-through
+ * racing a transition cannot put an older snapshot back. Transitions committed
+ * on other instances are picked up when the entry expires: after ttl while the
+ * payment can still change, after terminalTtl once it cannot.
+ */
+@Component
+public class PaymentSnapshotCache {
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, PaymentSnapshot> cache;
+
+    public PaymentSnapshotCache(
+            PaymentSnapshotCacheProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.enabled();
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(Expiry.writing((String paymentId, PaymentSnapshot snapshot) ->
+                        snapshot.payment().status().isTerminal() ? properties.terminalTtl() : properties.ttl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "payment.snapshots");
+    }
+
+    public PaymentSnapshot get(String paymentId) {
+        if (!enabled) return null;
+        return cache.getIfPresent(paymentId);
+    }
+
+    /*
+     * Serializes a committed payment and caches it unless a newer version is already cached.
+     */
+    public PaymentSnapshot put(PaymentResponse payment, long version) {
+        PaymentSnapshot snapshot = new PaymentSnapshot(
+                payment,
+                version,
+                etag(version),
+                objectMapper.writeValueAsBytes(payment)
+        );
+        if (!enabled) return snapshot;
+        return cache.asMap().merge(payment.paymentId(), snapshot,
+                (cached, fresh) -> fresh.version() >= cached.version() ? fresh : cached);
+    }
+
+    /*
+     * Caches the payment written by the current transaction once it commits.
+     */
+    public void putAfterCommit(PaymentResponse payment, long version) {
+        if (!enabled) return;
+        afterCommit(() -> put(payment, version));
+    }
+
+    /*
+     * Drops the entry unless it already shows status (a status change seen on another instance).
+     */
+    public void statusChanged(String paymentId, PaymentStatus status) {
+        if (!enabled) return;
+        cache.asMap().computeIfPresent(paymentId,
+                (id, snapshot) -> snapshot.payment().status() == status ? snapshot : null);
+    }
+
+    /*
+     * Drops payments changed by the current transaction once it commits
+     * (bulk paths where serializing every row up front is not worth it).
+     */
+    public void invalidateAfterCommit(Collection<String> paymentIds) {
+        if (!enabled || paymentIds.isEmpty()) return;
+        List<String> ids = List.copyOf(paymentIds);
+        afterCommit(() -> cache.invalidateAll(ids));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /*
+     * The version is bumped by every status change, so it identifies the representation.
+     */
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public record PaymentSnapshot(
+            PaymentResponse payment,
+            long version,
+            String etag,
+            byte[] body
+    ) {
+    }
+}
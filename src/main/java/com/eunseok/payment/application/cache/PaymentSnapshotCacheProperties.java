@@ -0,0 +1,23 @@
+package com.eunseok.payment.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.snapshot-cache.*
+ *
+ * maximumSize - payments kept in memory
+ * ttl         - how long a payment that can still change is served from memory
+ *               (bounds staleness for transitions committed on other instances)
+ * terminalTtl - how long a payment in a terminal status (no further transitions) is kept
+ */
+@ConfigurationProperties(prefix = "payment.snapshot-cache")
+public record PaymentSnapshotCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("2s") Duration ttl,
+        @DefaultValue("1h") Duration terminalTtl
+) {
+}
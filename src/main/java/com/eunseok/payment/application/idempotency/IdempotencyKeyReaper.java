@@ -0,0 +1,111 @@
+package com.eunseok.payment.application.idempotency;
+
+import com.eunseok.payment.infra.persistence.jdbc.IdempotencyKeyJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Background cleanup of idempotency_keys.
+ *
+ * 1) Stale IN_PROGRESS keys (not updated within the lease): if the payment was
+ *    created the key is completed as SUCCEEDED with the create response,
+ *    otherwise the key is deleted so the client's retry is processed again
+ *    instead of getting 409 "already in progress" forever.
+ * 2) Completed keys older than the retention window are deleted.
+ *
+ * Work is done in small batches, each its own statement and transaction, with
+ * a pause in between. Rows locked by live requests are skipped, and several
+ * nodes can run the reaper at once without coordinating.
+ *
+ * Metrics:
+ *  - payment.idempotency.reaper.rows{action=purged|recovered|released}
+ *  - payment.idempotency.reaper.run (timer)
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyReaper {
+    private final IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository;
+    private final IdempotencyReaperProperties properties;
+    private final Counter purged;
+    private final Counter recovered;
+    private final Counter released;
+    private final Timer runTimer;
+
+    public IdempotencyKeyReaper(
+            IdempotencyKeyJdbcRepository idempotencyKeyJdbcRepository,
+            IdempotencyReaperProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.idempotencyKeyJdbcRepository = idempotencyKeyJdbcRepository;
+        this.properties = properties;
+        this.purged = rows(meterRegistry, "purged");
+        this.recovered = rows(meterRegistry, "recovered");
+        this.released = rows(meterRegistry, "released");
+        this.runTimer = Timer.builder("payment.idempotency.reaper.run")
+                .description("Time spent per reaper run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${payment.idempotency.reaper.interval:1m}",
+            fixedDelayString = "${payment.idempotency.reaper.interval:1m}"
+    )
+    public void run() {
+        if (!properties.enabled()) return;
+        runTimer.record(this::reap);
+    }
+
+    void reap() {
+        Instant now = Instant.now();
+        Instant staleBefore = now.minus(properties.lease());
+        Instant expiredBefore = now.minus(properties.retention());
+
+        int r = drain(limit -> idempotencyKeyJdbcRepository.recoverStaleInProgress(staleBefore, limit), recovered);
+        int d = drain(limit -> idempotencyKeyJdbcRepository.releaseStaleInProgress(staleBefore, limit), released);
+        int p = drain(limit -> idempotencyKeyJdbcRepository.purgeCreatedBefore(expiredBefore, limit), purged);
+
+        if (r + d + p > 0) {
+            log.info("Idempotency keys: {} recovered, {} released, {} purged", r, d, p);
+        }
+    }
+
+    /*
+     * Runs a batch statement until it comes back short or the per-run budget is spent.
+     */
+    private int drain(IntUnaryOperator batch, Counter counter) {
+        int batchSize = Math.max(1, properties.batchSize());
+        int total = 0;
+        for (int i = 0; i < properties.maxBatchesPerRun(); i++) {
+            int n = batch.applyAsInt(batchSize);
+            counter.increment(n);
+            total += n;
+            if (n < batchSize) break;
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (properties.batchPause().isZero()) return;
+        try {
+            Thread.sleep(properties.batchPause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reaping idempotency keys", e);
+        }
+    }
+
+    private static Counter rows(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("payment.idempotency.reaper.rows")
+                .description("Idempotency key rows handled by the reaper")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
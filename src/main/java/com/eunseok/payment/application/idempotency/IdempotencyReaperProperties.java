@@ -0,0 +1,28 @@
+package com.eunseok.payment.application.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.idempotency.reaper.*
+ *
+ * interval         - delay between reaper runs
+ * retention        - completed keys older than this are deleted (retries after it are new requests)
+ * lease            - an IN_PROGRESS key not updated for this long belongs to a dead request
+ * batchSize        - rows per statement / transaction
+ * maxBatchesPerRun - upper bound on work per run, per kind of cleanup
+ * batchPause       - sleep between batches (rate limit)
+ */
+@ConfigurationProperties(prefix = "payment.idempotency.reaper")
+public record IdempotencyReaperProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration interval,
+        @DefaultValue("24h") Duration retention,
+        @DefaultValue("5m") Duration lease,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100") int maxBatchesPerRun,
+        @DefaultValue("20ms") Duration batchPause
+) {
+}
@@ -0,0 +1,41 @@
+package com.eunseok.payment.application.ledger;
+
+import com.eunseok.payment.api.dto.AccountBalanceResponse;
+import com.eunseok.payment.infra.persistence.jdbc.AccountBalanceJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.AccountBalanceJdbcRepository.BalanceRow;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class AccountBalanceService {
+    private final AccountBalanceJdbcRepository accountBalanceJdbcRepository;
+
+    /*
+     * Current balance: sum of the running balance stripes (constant time).
+     * Historical balance: nearest snapshot <= asOf + ledger entries after it.
+     */
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse getBalance(String accountKey, Instant asOf) {
+        List<BalanceRow> rows = asOf == null
+                ? accountBalanceJdbcRepository.findCurrent(accountKey)
+                : accountBalanceJdbcRepository.findAsOf(accountKey, asOf);
+
+        return new AccountBalanceResponse(
+                accountKey,
+                asOf,
+                rows.stream()
+                        .map(r -> new AccountBalanceResponse.CurrencyBalance(
+                                r.currency(),
+                                r.debits(),
+                                r.credits(),
+                                r.credits() - r.debits()
+                        ))
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package com.eunseok.payment.application.ledger;
+
+import com.eunseok.payment.infra.persistence.jdbc.AccountBalanceJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Periodically snapshots account balances so historical balance queries
+ * only sum the ledger entries posted after the nearest snapshot.
+ *
+ * Each run covers entries in (previous as_of, now - lag]. The lag keeps
+ * transactions that are still in flight out of the window; an entry whose
+ * transaction commits later than the lag would be missed by snapshots.
+ * One node runs at a time (transaction-scoped advisory lock).
+ */
+@Slf4j
+@Component
+public class BalanceSnapshotJob {
+    private static final long LOCK_ID = 0x1ed9e5_0001L;
+
+    private final AccountBalanceJdbcRepository accountBalanceJdbcRepository;
+    private final LedgerProperties properties;
+
+    public BalanceSnapshotJob(AccountBalanceJdbcRepository accountBalanceJdbcRepository, LedgerProperties properties) {
+        this.accountBalanceJdbcRepository = accountBalanceJdbcRepository;
+        this.properties = properties;
+    }
+
+    @Scheduled(
+            initialDelayString = "${payment.ledger.snapshot.interval:PT1H}",
+            fixedDelayString = "${payment.ledger.snapshot.interval:PT1H}"
+    )
+    @Transactional
+    public void run() {
+        if (!properties.snapshot().enabled()) return;
+        if (!accountBalanceJdbcRepository.tryLock(LOCK_ID)) return;
+
+        Instant previous = accountBalanceJdbcRepository.findLatestSnapshotAsOf();
+        Instant from = previous == null ? Instant.EPOCH : previous;
+        Instant asOf = Instant.now().minus(properties.snapshot().lag());
+        if (!asOf.isAfter(from)) return;
+
+        int accounts = accountBalanceJdbcRepository.snapshot(from, asOf);
+        log.info("Balance snapshot as of {}: {} account(s)", asOf, accounts);
+    }
+}
@@ -0,0 +1,116 @@
+package com.eunseok.payment.application.ledger;
+
+import com.eunseok.payment.domain.model.LedgerEntryType;
+import com.eunseok.payment.infra.persistence.entity.LedgerEntryEntity;
+import com.eunseok.payment.infra.persistence.jdbc.AccountBalanceJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import com.eunseok.payment.infra.persistence.repository.LedgerEntryRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Double-entry postings for money movements.
+ *
+ * SETTLE  : DEBIT  clearing:<method>  / CREDIT merchant
+ * REVERSE : DEBIT  merchant           / CREDIT clearing:<method>
+ *
+ * Postings join the caller's transaction, so a settle or reverse and its
+ * ledger entries commit together. Entries are saved as one batch (pooled
+ * sequence ids), and every journal is checked to balance per payment and
+ * currency before anything is written. The same transaction adds the entries
+ * to the striped running balances in account_balances.
+ */
+@Service
+public class LedgerPostingEngine {
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final AccountBalanceJdbcRepository accountBalanceJdbcRepository;
+    private final LedgerProperties properties;
+
+    public LedgerPostingEngine(
+            LedgerEntryRepository ledgerEntryRepository,
+            AccountBalanceJdbcRepository accountBalanceJdbcRepository,
+            LedgerProperties properties
+    ) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.accountBalanceJdbcRepository = accountBalanceJdbcRepository;
+        this.properties = properties;
+    }
+
+    public void postSettlement(TransitionRow payment) {
+        if (!properties.enabled()) return;
+
+        List<LedgerEntryEntity> journal = new ArrayList<>(2);
+        addPair(journal, payment, clearingAccount(payment), properties.merchantAccount(), Instant.now());
+        write(journal);
+    }
+
+    /*
+     * One journal for many settled payments (bulk settlement chunks), applied to a single
+     * balance stripe (stripe mod balanceStripes): one row lock per account for the chunk,
+     * and chunks posting to different stripes do not block each other.
+     */
+    public void postSettlements(List<TransitionRow> payments, int stripe) {
+        if (!properties.enabled() || payments.isEmpty()) return;
+
+        Instant now = Instant.now();
+        List<LedgerEntryEntity> journal = new ArrayList<>(payments.size() * 2);
+        for (TransitionRow payment : payments) {
+            addPair(journal, payment, clearingAccount(payment), properties.merchantAccount(), now);
+        }
+        verifyBalanced(journal);
+        ledgerEntryRepository.saveAll(journal);
+        accountBalanceJdbcRepository.applyAllToStripe(journal, Math.floorMod(stripe, properties.balanceStripes()));
+    }
+
+    public void postReversal(TransitionRow payment) {
+        if (!properties.enabled()) return;
+
+        List<LedgerEntryEntity> journal = new ArrayList<>(2);
+        addPair(journal, payment, properties.merchantAccount(), clearingAccount(payment), Instant.now());
+        write(journal);
+    }
+
+    private static void addPair(
+            List<LedgerEntryEntity> journal,
+            TransitionRow payment,
+            String debitAccount,
+            String creditAccount,
+            Instant now
+    ) {
+        journal.add(LedgerEntryEntity.of(payment.paymentId(), LedgerEntryType.DEBIT, debitAccount,
+                payment.amount(), payment.currency(), now));
+        journal.add(LedgerEntryEntity.of(payment.paymentId(), LedgerEntryType.CREDIT, creditAccount,
+                payment.amount(), payment.currency(), now));
+    }
+
+    private void write(List<LedgerEntryEntity> journal) {
+        verifyBalanced(journal);
+        ledgerEntryRepository.saveAll(journal);
+        accountBalanceJdbcRepository.applyAll(journal, properties.balanceStripes());
+    }
+
+    /*
+     * Invariant: for every (payment, currency), debits == credits.
+     */
+    static void verifyBalanced(List<LedgerEntryEntity> journal) {
+        Map<String, Long> net = new HashMap<>();
+        for (LedgerEntryEntity e : journal) {
+            long signed = e.getEntryType() == LedgerEntryType.DEBIT ? e.getAmount() : -e.getAmount();
+            net.merge(e.getPaymentId() + "/" + e.getCurrency(), signed, Math::addExact);
+        }
+        net.forEach((key, balance) -> {
+            if (balance != 0) {
+                throw new IllegalStateException("Unbalanced ledger posting for " + key + ": " + balance);
+            }
+        });
+    }
+
+    private String clearingAccount(TransitionRow payment) {
+        return properties.clearingAccountPrefix() + payment.paymentMethod();
+    }
+}
@@ -0,0 +1,31 @@
+package com.eunseok.payment.application.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.ledger.*
+ *
+ * merchantAccount       - account credited when a payment settles
+ * clearingAccountPrefix - prefix of the per payment method clearing account (e.g. clearing:CARD)
+ * balanceStripes        - running balance rows per (account, currency)
+ * snapshot.interval     - delay between balance snapshot runs
+ * snapshot.lag          - snapshots only cover entries older than this (in-flight transactions)
+ */
+@ConfigurationProperties(prefix = "payment.ledger")
+public record LedgerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("merchant:default") String merchantAccount,
+        @DefaultValue("clearing:") String clearingAccountPrefix,
+        @DefaultValue("8") int balanceStripes,
+        @DefaultValue Snapshot snapshot
+) {
+    public record Snapshot(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("PT1H") Duration interval,
+            @DefaultValue("5m") Duration lag
+    ) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.eunseok.payment.application.outbox;
+
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository.OutboxRow;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends relayed events to a local file, one JSON object per line
+ * (payment.outbox.sink=file), for local runs: the events stay on this node's disk.
+ *
+ * Batches from concurrent workers are written whole, one after another; a batch
+ * is flushed before publish returns.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+
+    public FileOutboxSink(ObjectMapper objectMapper, OutboxProperties properties) throws IOException {
+        this.objectMapper = objectMapper;
+        Path path = Path.of(properties.file()).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxRow> batch) throws IOException {
+        for (OutboxRow row : batch) {
+            writer.write(objectMapper.writeValueAsString(new Line(
+                    row.eventId(),
+                    row.paymentId(),
+                    row.eventType(),
+                    row.fromStatus(),
+                    row.toStatus(),
+                    row.payload(),
+                    row.createdAt()
+            )));
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    // payload is already JSON: embedded as is
+    private record Line(
+            long eventId,
+            String paymentId,
+            String eventType,
+            String fromStatus,
+            String toStatus,
+            @JsonRawValue String payload,
+            Instant createdAt
+    ) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.eunseok.payment.application.outbox;
+
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository.OutboxRow;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps published events in memory, in publish order (payment.outbox.sink=memory).
+ * For tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+    private final List<OutboxRow> published = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxRow> batch) {
+        published.addAll(batch);
+    }
+
+    public synchronized List<OutboxRow> published() {
+        return List.copyOf(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eunseok.payment.application.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.outbox.*
+ *
+ * enabled       - run the relay on this node (the outbox is written regardless, see V10__payment_outbox.sql); off by default
+ * workers       - parallel relay workers; each owns one shard per batch, so more than 16 never helps
+ * batchSize     - rows published and deleted per batch / transaction
+ * pollInterval  - pause when no shard has pending rows
+ * errorBackoff  - pause after a failed batch (sink or database error), which is then retried
+ * sink          - file | memory | custom (custom: provide an OutboxSink bean); no default, required when enabled
+ * file          - target of the file sink, one JSON line per event
+ */
+@ConfigurationProperties(prefix = "payment.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("4") int workers,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration pollInterval,
+        @DefaultValue("1s") Duration errorBackoff,
+        String sink,
+        @DefaultValue("outbox/payment-events.ndjson") String file
+) {
+}
@@ -0,0 +1,195 @@
+package com.eunseok.payment.application.outbox;
+
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository.OutboxRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays payment_outbox rows to the {@link OutboxSink} (see V10__payment_outbox.sql).
+ *
+ * Each worker loops over batches, one transaction per batch: claim the least
+ * recently relayed shard with pending rows (SKIP LOCKED, so workers on this and
+ * other nodes spread over the shards without waiting), read up to batchSize of
+ * its rows in id order, publish them, delete them, commit. A failed publish or
+ * commit rolls the batch back and it is relayed again; see OutboxSink for the
+ * delivery guarantees.
+ *
+ * Disabled by default. When enabled, startup fails unless a sink is configured
+ * (payment.outbox.sink, or an OutboxSink bean): there is no implicit target.
+ * The trigger only enqueues once a relay has started somewhere: start() switches
+ * the outbox on (V12__payment_outbox_switch.sql), so until then writes pay nothing.
+ *
+ * Metrics:
+ *  - payment.outbox.relay.events (counter): events published and committed
+ *  - payment.outbox.relay.batch (timer) / payment.outbox.relay.batch.size (summary)
+ *  - payment.outbox.relay.lag (timer): enqueued -> published, per event, on the database clock
+ *  - payment.outbox.relay.failures (counter)
+ *  - payment.outbox.backlog.age (gauge, seconds): age of the oldest pending row, refreshed every 10s
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter events;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+    private final Timer lag;
+    private final Counter failures;
+
+    private volatile double backlogAgeSeconds;
+    private volatile boolean running;
+    private final List<Thread> workers = new ArrayList<>();
+
+    public OutboxRelay(
+            OutboxJdbcRepository outboxJdbcRepository,
+            Optional<OutboxSink> sink,
+            OutboxProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        if (properties.enabled() && sink.isEmpty()) {
+            throw new IllegalStateException(
+                    "payment.outbox.enabled=true but no sink: set payment.outbox.sink (file | memory) or provide an OutboxSink bean");
+        }
+        this.sink = sink.orElse(null);
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.events = Counter.builder("payment.outbox.relay.events")
+                .description("Outbox events published and committed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("payment.outbox.relay.batch")
+                .description("Claim, read, publish and delete of one batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("payment.outbox.relay.batch.size")
+                .description("Events per relayed batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("payment.outbox.relay.lag")
+                .description("Time from outbox insert to publish, per event (database clock)")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(5))
+                .register(meterRegistry);
+        this.failures = Counter.builder("payment.outbox.relay.failures")
+                .description("Batches rolled back after a sink or database error")
+                .register(meterRegistry);
+        Gauge.builder("payment.outbox.backlog.age", this, relay -> relay.backlogAgeSeconds)
+                .description("Age of the oldest pending outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) return;
+        if (outboxJdbcRepository.enableEnqueue()) {
+            log.info("Outbox switched on: payment_events are enqueued from now on");
+        }
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            workers.add(Thread.ofPlatform().daemon().name("outbox-relay-" + i).start(this::work));
+        }
+    }
+
+    /*
+     * Workers finish their current batch; uncommitted rows stay in the outbox.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(properties.pollInterval().plus(properties.errorBackoff()).multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // backlog age from the database clock, so it is comparable across nodes;
+    // refreshed on every node, so it keeps growing when no node relays
+    @Scheduled(initialDelay = 10_000, fixedDelay = 10_000)
+    public void refreshBacklogAge() {
+        backlogAgeSeconds = outboxJdbcRepository.oldestPendingAge()
+                .map(age -> age.toNanos() / 1e9)
+                .orElse(0.0);
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (relayBatch() == 0) {
+                    Thread.sleep(properties.pollInterval());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Outbox batch failed, retrying in {}: {}", properties.errorBackoff(), e.getMessage());
+                try {
+                    Thread.sleep(properties.errorBackoff());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /*
+     * One batch, one transaction. Returns the number of events relayed (0 = no pending shard).
+     */
+    int relayBatch() {
+        long start = System.nanoTime();
+        List<Duration> lags = transactionTemplate.execute(tx -> {
+            Optional<Integer> shard = outboxJdbcRepository.claimShard();
+            if (shard.isEmpty()) return List.of();
+
+            List<OutboxRow> rows = outboxJdbcRepository.findBatch(shard.get(), properties.batchSize());
+            if (rows.isEmpty()) return List.of();
+
+            try {
+                sink.publish(rows);
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox sink failed: " + e.getMessage(), e);
+            }
+            // deleted right after the publish: their age at the delete is the lag
+            return outboxJdbcRepository.delete(rows);
+        });
+        if (lags == null || lags.isEmpty()) return 0;
+
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSize.record(lags.size());
+        events.increment(lags.size());
+        for (Duration age : lags) {
+            lag.record(age);
+        }
+        return lags.size();
+    }
+}
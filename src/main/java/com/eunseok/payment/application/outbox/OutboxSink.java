@@ -0,0 +1,20 @@
+package com.eunseok.payment.application.outbox;
+
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository.OutboxRow;
+
+import java.util.List;
+
+/**
+ * Where relayed payment events go (a broker producer, a webhook, a file).
+ *
+ * A batch holds events of one outbox shard in id order, so events of the same
+ * payment arrive in the order they were written. Batches of different shards
+ * are published concurrently. publish returns once the batch is durable at the
+ * destination; throwing fails the batch, which is retried as a whole.
+ *
+ * Delivery is at-least-once: a batch whose transaction fails after publish is
+ * published again. Consumers deduplicate on eventId.
+ */
+public interface OutboxSink {
+    void publish(List<OutboxRow> batch) throws Exception;
+}
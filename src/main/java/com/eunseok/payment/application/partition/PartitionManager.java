@@ -0,0 +1,106 @@
+package com.eunseok.payment.application.partition;
+
+import com.eunseok.payment.infra.persistence.jdbc.PartitionJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PartitionJdbcRepository.PartitionRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the monthly payment_events partitions (V8__partition_payment_events.sql) ahead of time
+ * and drops expired ones.
+ *
+ * Inserts fail if no partition covers their created_at, so the next
+ * premakeMonths partitions always exist; a missed run or two is harmless.
+ * Retention detaches (CONCURRENTLY, without blocking inserts) and drops whole
+ * partitions, which costs the same however many rows they hold.
+ * Creation runs under a transaction-scoped advisory lock, one node at a time.
+ */
+@Slf4j
+@Component
+public class PartitionManager {
+    static final String PAYMENT_EVENTS = "payment_events";
+    private static final long LOCK_ID = 0x1ed9e5_0002L;
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final PartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public PartitionManager(
+            PartitionJdbcRepository partitionJdbcRepository,
+            PartitionProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.partitions.interval:PT6H}")
+    public void run() {
+        if (!properties.enabled()) return;
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        premake(current);
+        if (properties.eventRetentionMonths() > 0) {
+            dropExpired(start(current.minusMonths(properties.eventRetentionMonths())));
+        }
+    }
+
+    private void premake(YearMonth current) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!partitionJdbcRepository.tryLock(LOCK_ID)) return;
+
+            for (int i = 0; i <= properties.premakeMonths(); i++) {
+                YearMonth month = current.plusMonths(i);
+                partitionJdbcRepository.createPartition(
+                        PAYMENT_EVENTS, partitionName(month), start(month), start(month.plusMonths(1)));
+            }
+        });
+    }
+
+    /*
+     * Outside a transaction: DETACH CONCURRENTLY does not run in one.
+     */
+    private void dropExpired(Instant cutoff) {
+        for (PartitionRow partition : partitionJdbcRepository.findPartitions(PAYMENT_EVENTS)) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) continue;
+            try {
+                partitionJdbcRepository.detachAndDrop(PAYMENT_EVENTS, partition.name());
+                log.info("Dropped partition {} (rows before {})", partition.name(), partition.upperBound());
+            } catch (RuntimeException e) {
+                // e.g. another node detached it first; the next run retries
+                log.warn("Could not drop partition {}: {}", partition.name(), e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Oldest created_at that payment_events still covers; empty while a partition from MINVALUE
+     * exists, i.e. until retention dropped the oldest one. Events before it are gone.
+     */
+    public Optional<Instant> eventHorizon() {
+        List<PartitionRow> partitions = partitionJdbcRepository.findPartitions(PAYMENT_EVENTS);
+        if (partitions.isEmpty() || partitions.stream().anyMatch(partition -> partition.lowerBound() == null)) {
+            return Optional.empty();
+        }
+        return partitions.stream().map(PartitionRow::lowerBound).min(Comparator.naturalOrder());
+    }
+
+    static String partitionName(YearMonth month) {
+        return PAYMENT_EVENTS + String.format("_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,22 @@
+package com.eunseok.payment.application.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.partitions.*
+ *
+ * interval             - delay between maintenance runs (the first one runs at startup)
+ * premakeMonths        - monthly payment_events partitions kept ready beyond the current month
+ * eventRetentionMonths - partitions entirely older than this many months are dropped; 0 keeps everything
+ */
+@ConfigurationProperties(prefix = "payment.partitions")
+public record PartitionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT6H") Duration interval,
+        @DefaultValue("3") int premakeMonths,
+        @DefaultValue("0") int eventRetentionMonths
+) {
+}
@@ -0,0 +1,72 @@
+package com.eunseok.payment.application.reconciliation;
+
+import com.eunseok.payment.api.dto.ReconciliationReportResponse.Discrepancy;
+import com.eunseok.payment.domain.model.DiscrepancyType;
+import com.eunseok.payment.domain.model.PaymentStatus;
+
+/**
+ * Replays one payment's status events in history order against the lifecycle
+ * and its current status. Keeps only the last status and the first finding,
+ * however long the history.
+ *
+ * A truncated history (the payment predates the oldest payment_events
+ * partition left by retention) may have lost its first events or all of
+ * them: it can start at any status, and an empty one is not a finding.
+ */
+final class PaymentHistoryCheck {
+    private final String paymentId;
+    private final PaymentStatus status;
+    private final boolean truncated;
+    private PaymentStatus last;
+    private Discrepancy found;
+
+    PaymentHistoryCheck(String paymentId, PaymentStatus status) {
+        this(paymentId, status, false);
+    }
+
+    PaymentHistoryCheck(String paymentId, PaymentStatus status, boolean truncated) {
+        this.paymentId = paymentId;
+        this.status = status;
+        this.truncated = truncated;
+    }
+
+    boolean truncated() {
+        return truncated;
+    }
+
+    void accept(long eventId, PaymentStatus from, PaymentStatus to) {
+        if (found == null) {
+            if (last == null) {
+                if (!truncated && (from != null || to != PaymentStatus.INIT)) {
+                    found = discrepancy(DiscrepancyType.ILLEGAL_TRANSITION,
+                            "event " + eventId + ": first event " + from + " -> " + to);
+                }
+            } else if (from != last) {
+                found = discrepancy(DiscrepancyType.BROKEN_CHAIN,
+                        "event " + eventId + ": from " + from + " after " + last);
+            } else if (!from.canTransitionTo(to)) {
+                found = discrepancy(DiscrepancyType.ILLEGAL_TRANSITION,
+                        "event " + eventId + ": " + from + " -> " + to);
+            }
+        }
+        last = to;
+    }
+
+    /*
+     * null when the history is consistent with the payment.
+     */
+    Discrepancy finish() {
+        if (last == null) {
+            return truncated ? null : discrepancy(DiscrepancyType.MISSING_HISTORY, "status " + status + ", no events");
+        }
+        if (found != null) return found;
+        if (last != status) {
+            return discrepancy(DiscrepancyType.STATUS_MISMATCH, "status " + status + ", history ends at " + last);
+        }
+        return null;
+    }
+
+    private Discrepancy discrepancy(DiscrepancyType type, String detail) {
+        return new Discrepancy(paymentId, type, detail);
+    }
+}
@@ -0,0 +1,27 @@
+package com.eunseok.payment.application.reconciliation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * payment.reconciliation.*
+ *
+ * enabled     - run on schedule (cron, UTC); POST /reconciliations runs regardless
+ * cron        - when the scheduled run starts
+ * parallelism - fork-join workers, each holding one connection while it reads a page
+ * shards      - payment_id ranges; several per worker so fast shards steal from slow ones
+ * pageSize    - payments per page / read-only transaction
+ * fetchSize   - event rows per cursor fetch
+ * maxSamples  - discrepancies listed in the report (all of them are counted)
+ */
+@ConfigurationProperties(prefix = "payment.reconciliation")
+public record ReconciliationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 30 3 * * *") String cron,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("64") int shards,
+        @DefaultValue("1000") int pageSize,
+        @DefaultValue("1000") int fetchSize,
+        @DefaultValue("100") int maxSamples
+) {
+}
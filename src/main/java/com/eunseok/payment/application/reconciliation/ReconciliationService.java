@@ -0,0 +1,367 @@
+package com.eunseok.payment.application.reconciliation;
+
+import com.eunseok.payment.api.dto.ReconciliationReportResponse;
+import com.eunseok.payment.api.dto.ReconciliationReportResponse.Discrepancy;
+import com.eunseok.payment.application.partition.PartitionManager;
+import com.eunseok.payment.domain.model.DiscrepancyType;
+import com.eunseok.payment.domain.model.ReconciliationStatus;
+import com.eunseok.payment.infra.persistence.jdbc.ReconciliationJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.ReconciliationJdbcRepository.PaymentStatusRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Nightly reconciliation of payments.status against the payment_events history
+ * (see {@link PaymentHistoryCheck} and DiscrepancyType).
+ *
+ * The payment_id key space is cut into contiguous shards from a table sample,
+ * and the shards are reconciled on a fork-join pool. A shard is walked in
+ * keyset pages; each page is its own short read-only REPEATABLE READ
+ * transaction (replicas when configured), so payments and their events come
+ * from one snapshot, nothing stays open between pages, and memory is bounded
+ * by the page, whatever the table size. Events are streamed through a
+ * server-side cursor.
+ *
+ * One run at a time across nodes: the run holds a session advisory lock on a
+ * dedicated primary connection (idle, no transaction) until it finishes.
+ *
+ * Payments created before the oldest remaining payment_events partition
+ * (partition retention) are checked as truncated histories, see
+ * {@link PaymentHistoryCheck}; the horizon is re-read for every page.
+ */
+@Slf4j
+@Service
+public class ReconciliationService {
+    private static final long LOCK_ID = 0x1ed9e5_0003L;
+
+    private final ReconciliationJdbcRepository reconciliationJdbcRepository;
+    private final PartitionManager partitionManager;
+    private final ReconciliationProperties properties;
+    private final DataSource dataSource;
+    private final TransactionTemplate pageTransaction;
+    private final Timer runTimer;
+    private final Counter payments;
+    private final Map<DiscrepancyType, Counter> discrepancies = new EnumMap<>(DiscrepancyType.class);
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong paymentsChecked = new AtomicLong();
+    private final AtomicLong eventsChecked = new AtomicLong();
+    private final AtomicLong truncatedHistories = new AtomicLong();
+    private volatile Instant startedAt;
+    private volatile int shardCount;
+    private volatile ReconciliationReportResponse lastReport;
+    private volatile boolean stopping;
+
+    public ReconciliationService(
+            ReconciliationJdbcRepository reconciliationJdbcRepository,
+            PartitionManager partitionManager,
+            ReconciliationProperties properties,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.reconciliationJdbcRepository = reconciliationJdbcRepository;
+        this.partitionManager = partitionManager;
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.pageTransaction = new TransactionTemplate(transactionManager);
+        this.pageTransaction.setReadOnly(true);
+        this.pageTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.runTimer = Timer.builder("payment.reconciliation.run")
+                .description("Time spent per reconciliation run")
+                .register(meterRegistry);
+        this.payments = Counter.builder("payment.reconciliation.payments")
+                .description("Payments reconciled")
+                .register(meterRegistry);
+        for (DiscrepancyType type : DiscrepancyType.values()) {
+            discrepancies.put(type, Counter.builder("payment.reconciliation.discrepancies")
+                    .description("Payments whose history does not match their status")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 30 3 * * *}", zone = "UTC")
+    public void scheduled() {
+        if (!properties.enabled()) return;
+        try {
+            start();
+        } catch (ResponseStatusException e) {
+            log.info("Scheduled reconciliation skipped: {}", e.getReason());
+        }
+    }
+
+    /*
+     * Starts a run in the background; 409 when one is running here or on another node.
+     */
+    public ReconciliationReportResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Reconciliation already running");
+        }
+        Connection lock;
+        try {
+            lock = acquireLock();
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+
+        startedAt = Instant.now();
+        shardCount = 0;
+        paymentsChecked.set(0);
+        eventsChecked.set(0);
+        truncatedHistories.set(0);
+        Thread.ofPlatform().name("reconciliation").start(() -> {
+            try {
+                lastReport = runTimer.record(this::reconcile);
+            } finally {
+                releaseLock(lock);
+                running.set(false);
+            }
+        });
+        return progress();
+    }
+
+    public ReconciliationReportResponse latest() {
+        if (running.get()) return progress();
+        ReconciliationReportResponse report = lastReport;
+        if (report == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No reconciliation has run yet");
+        }
+        return report;
+    }
+
+    /*
+     * Shards finish their current page; the run is reported as FAILED.
+     */
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+    }
+
+    private ReconciliationReportResponse reconcile() {
+        ForkJoinPool pool = new ForkJoinPool(properties.parallelism());
+        try {
+            List<Shard> shards = shards();
+            shardCount = shards.size();
+            ShardResult result = pool.invoke(new ShardTask(shards, 0, shards.size()));
+            if (stopping) throw new IllegalStateException("Interrupted by shutdown");
+
+            result.counts.forEach((type, count) -> discrepancies.get(type).increment(count));
+            log.info("Reconciliation: {} payments ({} truncated histories), {} events, {} discrepancies {}",
+                    result.payments, result.truncated, result.events,
+                    result.counts.values().stream().mapToLong(Long::longValue).sum(), result.counts);
+            return report(ReconciliationStatus.COMPLETED, result.payments, result.events, result.truncated,
+                    result.counts, result.samples, null);
+        } catch (RuntimeException e) {
+            log.error("Reconciliation failed", e);
+            return report(ReconciliationStatus.FAILED, paymentsChecked.get(), eventsChecked.get(),
+                    truncatedHistories.get(), Map.of(), List.of(), e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Shard> shards() {
+        List<String> boundaries = reconciliationJdbcRepository.shardBoundaries(properties.shards());
+        List<Shard> shards = new ArrayList<>(boundaries.size() + 1);
+        String after = "";
+        for (String boundary : boundaries) {
+            shards.add(new Shard(after, boundary));
+            after = boundary;
+        }
+        shards.add(new Shard(after, null));
+        return shards;
+    }
+
+    private ShardResult reconcileShard(Shard shard) {
+        ShardResult result = new ShardResult(properties.maxSamples());
+        String after = shard.after();
+        while (after != null && !stopping) {
+            String from = after;
+            after = pageTransaction.execute(tx -> reconcilePage(from, shard.upTo(), result));
+        }
+        return result;
+    }
+
+    /*
+     * One page, one read-only transaction. Returns the last payment_id, or null at the end of the shard.
+     */
+    private String reconcilePage(String after, String upTo, ShardResult result) {
+        List<PaymentStatusRow> page = reconciliationJdbcRepository.findPage(after, upTo, properties.pageSize());
+        if (page.isEmpty()) return null;
+
+        Instant horizon = partitionManager.eventHorizon().orElse(null);
+        Map<String, PaymentHistoryCheck> checks = HashMap.newHashMap(page.size());
+        long truncated = 0;
+        for (PaymentStatusRow row : page) {
+            boolean beforeHorizon = horizon != null && row.createdAt().isBefore(horizon);
+            if (beforeHorizon) truncated++;
+            checks.put(row.paymentId(), new PaymentHistoryCheck(row.paymentId(), row.status(), beforeHorizon));
+        }
+        long[] events = new long[1];
+        reconciliationJdbcRepository.streamHistory(
+                page.getFirst().paymentId(), page.getLast().paymentId(), properties.fetchSize(), row -> {
+                    events[0]++;
+                    PaymentHistoryCheck check = checks.get(row.paymentId());
+                    if (check != null) check.accept(row.eventId(), row.fromStatus(), row.toStatus());
+                });
+        for (PaymentStatusRow row : page) {
+            result.add(checks.get(row.paymentId()).finish());
+        }
+
+        result.payments += page.size();
+        result.events += events[0];
+        result.truncated += truncated;
+        paymentsChecked.addAndGet(page.size());
+        eventsChecked.addAndGet(events[0]);
+        truncatedHistories.addAndGet(truncated);
+        payments.increment(page.size());
+        return page.size() < properties.pageSize() ? null : page.getLast().paymentId();
+    }
+
+    private Connection acquireLock() {
+        try {
+            Connection connection = dataSource.getConnection();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + LOCK_ID + ")")) {
+                if (rs.next() && rs.getBoolean(1)) return connection;
+            }
+            connection.close();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not take the reconciliation lock", e);
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Reconciliation running on another node");
+    }
+
+    /*
+     * Session locks survive close() on a pooled connection: unlock explicitly.
+     */
+    private void releaseLock(Connection connection) {
+        try (connection; Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_advisory_unlock(" + LOCK_ID + ")");
+        } catch (SQLException e) {
+            log.warn("Could not release the reconciliation lock: {}", e.getMessage());
+        }
+    }
+
+    private ReconciliationReportResponse progress() {
+        return report(ReconciliationStatus.RUNNING, paymentsChecked.get(), eventsChecked.get(), truncatedHistories.get(),
+                Map.of(), List.of(), null);
+    }
+
+    private ReconciliationReportResponse report(
+            ReconciliationStatus status,
+            long paymentsChecked,
+            long eventsChecked,
+            long truncatedHistories,
+            Map<DiscrepancyType, Long> counts,
+            List<Discrepancy> samples,
+            String lastError
+    ) {
+        return new ReconciliationReportResponse(
+                status,
+                shardCount,
+                paymentsChecked,
+                eventsChecked,
+                truncatedHistories,
+                counts,
+                samples,
+                lastError,
+                startedAt,
+                status == ReconciliationStatus.RUNNING ? null : Instant.now()
+        );
+    }
+
+    /*
+     * (after, upTo]; upTo == null for the last shard.
+     */
+    private record Shard(String after, String upTo) {
+    }
+
+    /*
+     * Splits the shard list in halves until one shard is left; idle workers steal the other halves.
+     */
+    private final class ShardTask extends RecursiveTask<ShardResult> {
+        private final List<Shard> shards;
+        private final int from;
+        private final int to;
+
+        ShardTask(List<Shard> shards, int from, int to) {
+            this.shards = shards;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ShardResult compute() {
+            if (to - from == 1) return reconcileShard(shards.get(from));
+
+            int mid = (from + to) >>> 1;
+            ShardTask left = new ShardTask(shards, from, mid);
+            left.fork();
+            ShardResult right = new ShardTask(shards, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /*
+     * Counts per type plus the first maxSamples discrepancies, in payment_id order.
+     */
+    private static final class ShardResult {
+        private final int maxSamples;
+        private final Map<DiscrepancyType, Long> counts = new EnumMap<>(DiscrepancyType.class);
+        private final List<Discrepancy> samples = new ArrayList<>();
+        private long payments;
+        private long events;
+        private long truncated;
+
+        ShardResult(int maxSamples) {
+            this.maxSamples = maxSamples;
+        }
+
+        void add(Discrepancy discrepancy) {
+            if (discrepancy == null) return;
+            counts.merge(discrepancy.type(), 1L, Long::sum);
+            if (samples.size() < maxSamples) samples.add(discrepancy);
+        }
+
+        ShardResult merge(ShardResult other) {
+            other.counts.forEach((type, count) -> counts.merge(type, count, Long::sum));
+            for (Discrepancy discrepancy : other.samples) {
+                if (samples.size() >= maxSamples) break;
+                samples.add(discrepancy);
+            }
+            payments += other.payments;
+            events += other.events;
+            truncated += other.truncated;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.application.service.PaymentMetrics.CreateStage;
+import com.eunseok.payment.infra.persistence.entity.PaymentEventEntity;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentEventJdbcRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group-commit appender for payment_events.
+ *
+ * Events appended during a transaction are buffered and written as one
+ * multi-row INSERT right before that transaction commits, on the same
+ * connection. Durability and atomicity are unchanged: the events are part of
+ * the caller's transaction, and a failed write aborts the commit.
+ *
+ * Rows are deliberately not merged across concurrent transactions. Doing so
+ * would mean writing them on a separate connection and committing them before
+ * (or without) the caller's status change, and PAYMENT_CREATED rows could not
+ * even satisfy fk_payment_events_payment_id. Grouping of concurrent commits is
+ * left to Postgres' WAL group commit (commit_delay / commit_siblings).
+ *
+ * Buffered events are not visible to queries in the same transaction.
+ * Outside a transaction events are written immediately.
+ */
+@Component
+public class PaymentEventAppender {
+    private final PaymentEventJdbcRepository paymentEventJdbcRepository;
+    private final EntityManager entityManager;
+    private final PaymentMetrics paymentMetrics;
+
+    public PaymentEventAppender(
+            PaymentEventJdbcRepository paymentEventJdbcRepository,
+            EntityManager entityManager,
+            PaymentMetrics paymentMetrics
+    ) {
+        this.paymentEventJdbcRepository = paymentEventJdbcRepository;
+        this.entityManager = entityManager;
+        this.paymentMetrics = paymentMetrics;
+    }
+
+    public void append(PaymentEventEntity event) {
+        appendAll(List.of(event));
+    }
+
+    public void appendAll(List<PaymentEventEntity> events) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            insert(events);
+            return;
+        }
+        pendingEvents().addAll(events);
+    }
+
+    private void insert(List<PaymentEventEntity> events) {
+        long t = System.nanoTime();
+        paymentEventJdbcRepository.insertAll(events);
+        paymentMetrics.recordStage(CreateStage.EVENT_INSERT, t);
+    }
+
+    private List<PaymentEventEntity> pendingEvents() {
+        PendingEvents pending = (PendingEvents) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvents();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.events;
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<PaymentEventEntity> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Payments are inserted by Hibernate at flush; they must exist before their events (FK)
+            long t = System.nanoTime();
+            entityManager.flush();
+            paymentMetrics.recordStage(CreateStage.ENTITY_FLUSH, t);
+            insert(events);
+            events.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PaymentEventAppender.this);
+        }
+    }
+}
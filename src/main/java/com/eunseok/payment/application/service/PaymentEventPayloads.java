@@ -0,0 +1,190 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.domain.model.PaymentEventPayload;
+import com.eunseok.payment.domain.model.PaymentEventPayload.Created;
+import com.eunseok.payment.domain.model.PaymentEventPayload.StatusChanged;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Serializes payment_events payloads ({@link PaymentEventPayload}).
+ *
+ * The documents have a fixed shape, so they are written field by field into
+ * one pre-sized builder instead of going through ObjectMapper: the constant
+ * part of every STATUS_CHANGED payload is rendered once per action at startup,
+ * and instants are formatted without DateTimeFormatter. Output is the same
+ * JSON Jackson writes for the records (without null fields), and
+ * payloads stay Strings because the driver sends jsonb parameters as text.
+ */
+@Component
+public class PaymentEventPayloads {
+    // stored action names, unchanged from the earlier Map payloads
+    private static final Map<PaymentStatus, String> ACTIONS = Map.of(
+            PaymentStatus.AUTHORIZED, "authorized",
+            PaymentStatus.SETTLED, "settle",
+            PaymentStatus.CANCELED, "canceled",
+            PaymentStatus.FAILED, "failed",
+            PaymentStatus.REVERSED, "reversed"
+    );
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    // {["v":<v>,]"action":"<action>","at":"
+    private static final Map<PaymentStatus, String> STATUS_CHANGED_PREFIXES = new EnumMap<>(PaymentStatus.class);
+
+    static {
+        ACTIONS.forEach((status, action) -> STATUS_CHANGED_PREFIXES.put(status,
+                "{" + versionPrefix(PaymentEventPayload.SCHEMA_VERSION) + "\"action\":\"" + action + "\",\"at\":\""));
+    }
+
+    public String created(CreatePaymentRequest request) {
+        return write(new Created(
+                PaymentEventPayload.SCHEMA_VERSION,
+                request.amount(),
+                request.currency(),
+                request.paymentMethod(),
+                request.description()
+        ));
+    }
+
+    public String statusChanged(PaymentStatus target, Instant at) {
+        return statusChanged(target, at, null);
+    }
+
+    public String statusChanged(PaymentStatus target, Instant at, String runId) {
+        String prefix = STATUS_CHANGED_PREFIXES.get(target);
+        if (prefix == null) {
+            throw new IllegalArgumentException("No STATUS_CHANGED event for " + target);
+        }
+        StringBuilder sb = new StringBuilder(prefix.length() + 48 + (runId == null ? 0 : runId.length() + 12));
+        sb.append(prefix);
+        appendInstant(sb, at);
+        sb.append('"');
+        if (runId != null) {
+            sb.append(",\"runId\":");
+            appendString(sb, runId);
+        }
+        return sb.append('}').toString();
+    }
+
+    String write(Created payload) {
+        StringBuilder sb = new StringBuilder(80 + length(payload.currency())
+                + length(payload.paymentMethod()) + length(payload.description()));
+        sb.append('{');
+        // every field is optional, so commas go before a field once one has been written
+        boolean first = true;
+        if (payload.v() != 1) {
+            sb.append("\"v\":").append(payload.v());
+            first = false;
+        }
+        if (payload.amount() != null) {
+            if (!first) sb.append(',');
+            sb.append("\"amount\":").append(payload.amount().longValue());
+            first = false;
+        }
+        first = appendField(sb, first, "currency", payload.currency());
+        first = appendField(sb, first, "paymentMethod", payload.paymentMethod());
+        appendField(sb, first, "description", payload.description());
+        return sb.append('}').toString();
+    }
+
+    // version 1 is implied, see PaymentEventPayload; always followed by "action"
+    private static String versionPrefix(int v) {
+        return v == 1 ? "" : "\"v\":" + v + ",";
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /*
+     * Skips null values; returns whether the object is still empty.
+     */
+    private static boolean appendField(StringBuilder sb, boolean first, String name, String value) {
+        if (value == null) return first;
+        if (!first) sb.append(',');
+        sb.append('"').append(name).append("\":");
+        appendString(sb, value);
+        return false;
+    }
+
+    /*
+     * JSON string literal: quote, backslash and control characters escaped, everything else as is.
+     */
+    private static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    /*
+     * Same text as Instant.toString (ISO_INSTANT): fraction in groups of 3 digits, omitted when zero.
+     */
+    static void appendInstant(StringBuilder sb, Instant at) {
+        long epochSecond = at.getEpochSecond();
+        long epochDay = Math.floorDiv(epochSecond, 86_400);
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86_400);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            sb.append(at);
+            return;
+        }
+
+        pad(sb, date.getYear(), 4).append('-');
+        pad(sb, date.getMonthValue(), 2).append('-');
+        pad(sb, date.getDayOfMonth(), 2).append('T');
+        pad(sb, secondOfDay / 3600, 2).append(':');
+        pad(sb, secondOfDay / 60 % 60, 2).append(':');
+        pad(sb, secondOfDay % 60, 2);
+
+        int nano = at.getNano();
+        if (nano > 0) {
+            sb.append('.');
+            if (nano % 1_000_000 == 0) {
+                pad(sb, nano / 1_000_000, 3);
+            } else if (nano % 1000 == 0) {
+                pad(sb, nano / 1000, 6);
+            } else {
+                pad(sb, nano, 9);
+            }
+        }
+        sb.append('Z');
+    }
+
+    private static StringBuilder pad(StringBuilder sb, int value, int digits) {
+        for (int divisor = pow10(digits - 1); divisor > 1 && value < divisor; divisor /= 10) {
+            sb.append('0');
+        }
+        return sb.append(value);
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) result *= 10;
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.PaymentPageResponse;
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.common.util.KeysetCursor;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentQueryJdbcRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+
+/*
+ * Operational payment listing (GET /payments).
+ */
+@Service
+@AllArgsConstructor
+public class PaymentQueryService {
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final PaymentQueryJdbcRepository paymentQueryJdbcRepository;
+
+    @Transactional(readOnly = true)
+    public PaymentPageResponse searchPayments(
+            PaymentStatus status,
+            Instant from,
+            Instant to,
+            String currency,
+            String cursor,
+            int limit
+    ) {
+        KeysetCursor after = null;
+        if (cursor != null) {
+            try {
+                after = KeysetCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+        Instant lower = from == null ? Instant.EPOCH : from;
+        if (to != null && !to.isAfter(lower)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must be after 'from'");
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // One extra row tells whether there is a next page
+        List<PaymentResponse> rows = paymentQueryJdbcRepository.findPage(
+                status,
+                lower,
+                to,
+                currency,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.tieBreaker(),
+                pageSize + 1
+        );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PaymentResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            PaymentResponse last = page.getLast();
+            nextCursor = new KeysetCursor(last.createdAt(), last.paymentId()).encode();
+        }
+        return new PaymentPageResponse(page, nextCursor);
+    }
+}
@@ -1,13 +1,27 @@
 package com.eunseok.payment.application.service;
 
 import com.eunseok.payment.api.dto.*;
+import com.eunseok.payment.application.cache.IdempotencyResponseCache;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache.PaymentSnapshot;
+import com.eunseok.payment.application.cache.IdempotencyResponseCache.CachedResponse;
+import com.eunseok.payment.application.ledger.LedgerPostingEngine;
+import com.eunseok.payment.application.service.PaymentMetrics.CreateStage;
+import com.eunseok.payment.application.service.PaymentMetrics.IdempotencyOutcome;
+import com.eunseok.payment.application.service.PaymentMetrics.TransitionStage;
+import com.eunseok.payment.common.util.KeysetCursor;
 import com.eunseok.payment.common.util.Strings;
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
 import com.eunseok.payment.domain.model.IdempotencyStatus;
 import com.eunseok.payment.domain.model.PaymentEventType;
 import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.datasource.ReadYourWrites;
+import com.eunseok.payment.infra.datasource.ReplicaRoutingDataSource;
 import com.eunseok.payment.infra.persistence.entity.IdempotencyKeyEntity;
 import com.eunseok.payment.infra.persistence.entity.PaymentEntity;
-import com.eunseok.payment.infra.persistence.entity.PaymentEventEntity;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentEventJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentEventJdbcRepository.EventRow;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
 import com.eunseok.payment.infra.persistence.repository.IdempotencyKeyRepository;
 import com.eunseok.payment.infra.persistence.repository.PaymentEventRepository;
 import com.eunseok.payment.infra.persistence.repository.PaymentRepository;
@@ -18,42 +32,197 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @AllArgsConstructor
 public class PaymentService {
+    private static final int MAX_EVENT_PAGE_SIZE = 1000;
+
     // Repositories
     private final PaymentRepository paymentRepository;
     private final IdempotencyKeyRepository idempotencyKeyRepository;
     private final PaymentEventRepository paymentEventRepository;
+    private final PaymentEventJdbcRepository paymentEventJdbcRepository;
 
     // Other services
     private final ObjectMapper objectMapper;
     private final PaymentEventWriter paymentEventWriter;
+    private final PaymentEventPayloads paymentEventPayloads;
+    private final PaymentTransitionExecutor paymentTransitionExecutor;
+    private final IdempotencyResponseCache idempotencyResponseCache;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final LedgerPostingEngine ledgerPostingEngine;
+    private final PaymentMetrics paymentMetrics;
+    private final PaymentSnapshotCache paymentSnapshotCache;
+    private final ReadYourWrites readYourWrites;
+
+    /*
+     * Replay fast path: answers a retry from the in-process cache,
+     * before any transaction (and DB connection) is opened.
+     * Empty when the key is absent or not cached; the caller then goes through createPayment.
+     */
+    public Optional<CachedResponse> findCachedReplay(CreatePaymentRequest req, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return Optional.empty();
+        }
+        CachedResponse cached = idempotencyResponseCache.get(idempotencyKey.trim());
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (!cached.requestHash().equals(hash(req))) {
+            paymentMetrics.idempotency(IdempotencyOutcome.CONFLICT);
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Idempotency-Key was resued with a different request payload"
+            );
+        }
+        paymentMetrics.idempotency(IdempotencyOutcome.REPLAY);
+        return Optional.of(cached);
+    }
 
     @Transactional
     public CreatePaymentResponse createPayment(CreatePaymentRequest req, String idempotencyKey) {
-        String key = Strings.normalizedOrGenerate(idempotencyKey);
+        String key = Strings.normalizedOrGenerate(idempotencyKey, idGenerator::next);
+        long t = System.nanoTime();
         String requestHash = hash(req);
+        paymentMetrics.recordStage(CreateStage.HASH, t);
         boolean isNew = false;
 
         // Chek idempotency key (prevent concurrency)
+        t = System.nanoTime();
         IdempotencyKeyEntity idem = idempotencyKeyRepository.findByIdempotencyKey(key).orElse(null);
         if (idem == null) {
             try {
-                idem = idempotencyKeyRepository.save(IdempotencyKeyEntity.createInProgress(key, requestHash));
+                // Flush right away: the unique constraint is our concurrency gate
+                idem = idempotencyKeyRepository.saveAndFlush(IdempotencyKeyEntity.createInProgress(key, requestHash));
                 isNew = true;
             } catch (org.springframework.dao.DataIntegrityViolationException e) {
                 idem = idempotencyKeyRepository.findByIdempotencyKey(key).orElseThrow(() -> e);
             }
         }
+        paymentMetrics.recordStage(CreateStage.IDEMPOTENCY_LOOKUP, t);
+
+        if (!isNew) {
+            return replayOrReject(idem, req, requestHash);
+        }
+        paymentMetrics.idempotency(IdempotencyOutcome.NEW);
+
+        // Create payment record (inserted at flush, see PaymentEventAppender)
+        t = System.nanoTime();
+        PaymentEntity saved = paymentRepository.save(newPayment(req, key));
+
+        // Create payment event log
+        paymentEventWriter.paymentCreated(saved, paymentEventPayloads.created(req));
+        paymentMetrics.recordStage(CreateStage.PAYMENT_PERSIST, t);
+
+        // Generate response
+        t = System.nanoTime();
+        CreatePaymentResponse response = toCreateResponse(saved);
+        String responseJson = safeJson(response);
+        paymentMetrics.recordStage(CreateStage.RESPONSE_SERIALIZATION, t);
+
+        idem.markSucceeded(HttpStatus.CREATED.value(), responseJson);
+        idempotencyKeyRepository.save(idem);
+        idempotencyResponseCache.putAfterCommit(key, requestHash, HttpStatus.CREATED.value(), responseJson);
+        paymentMetrics.paymentsCreated(1);
+        readYourWrites.written(saved.getPaymentId());
+
+        return response;
+    }
+
+    /*
+     * Batch create: same idempotency rules as createPayment, applied per item,
+     * but every table is written with one batched insert in a single transaction.
+     * Any conflicting item rejects the whole batch.
+     */
+    @Transactional
+    public CreatePaymentBatchResponse createPayments(List<CreatePaymentBatchItem> items) {
+        Map<String, CreatePaymentBatchItem> itemsByKey = new LinkedHashMap<>();
+        for (CreatePaymentBatchItem item : items) {
+            String key = Strings.normalizedOrGenerate(item.idempotencyKey(), idGenerator::next);
+            if (itemsByKey.putIfAbsent(key, item) != null) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "Duplicate Idempotency-Key in batch: " + key
+                );
+            }
+        }
 
+        // One lookup for every key in the batch
+        Map<String, IdempotencyKeyEntity> existing = new HashMap<>();
+        for (IdempotencyKeyEntity idem : idempotencyKeyRepository.findByIdempotencyKeyIn(itemsByKey.keySet())) {
+            existing.put(idem.getIdempotencyKey(), idem);
+        }
+
+        Map<String, CreatePaymentResponse> responses = new HashMap<>();
+        List<IdempotencyKeyEntity> newKeys = new ArrayList<>();
+        List<PaymentEntity> newPayments = new ArrayList<>();
+
+        for (Map.Entry<String, CreatePaymentBatchItem> entry : itemsByKey.entrySet()) {
+            String key = entry.getKey();
+            CreatePaymentRequest req = entry.getValue().payment();
+            String requestHash = hash(req);
+
+            IdempotencyKeyEntity idem = existing.get(key);
+            if (idem != null) {
+                responses.put(key, replayOrReject(idem, req, requestHash));
+                continue;
+            }
+            paymentMetrics.idempotency(IdempotencyOutcome.NEW);
+            newKeys.add(IdempotencyKeyEntity.createInProgress(key, requestHash));
+            newPayments.add(newPayment(req, key));
+        }
+
+        // Batched inserts in FK order: idempotency_keys -> payments (-> payment_events at commit)
+        idempotencyKeyRepository.saveAllAndFlush(newKeys);
+        paymentRepository.saveAllAndFlush(newPayments);
+
+        for (int i = 0; i < newPayments.size(); i++) {
+            PaymentEntity payment = newPayments.get(i);
+            IdempotencyKeyEntity idem = newKeys.get(i);
+
+            // Appended events go out as one multi-row insert at commit
+            paymentEventWriter.paymentCreated(
+                    payment,
+                    paymentEventPayloads.created(itemsByKey.get(idem.getIdempotencyKey()).payment())
+            );
+
+            CreatePaymentResponse response = toCreateResponse(payment);
+            String responseJson = safeJson(response);
+            idem.markSucceeded(HttpStatus.CREATED.value(), responseJson);
+            idempotencyResponseCache.putAfterCommit(
+                    idem.getIdempotencyKey(), idem.getRequestHash(), HttpStatus.CREATED.value(), responseJson);
+            responses.put(idem.getIdempotencyKey(), response);
+            readYourWrites.written(payment.getPaymentId());
+        }
+
+        paymentMetrics.paymentsCreated(newPayments.size());
+        return new CreatePaymentBatchResponse(
+                itemsByKey.keySet().stream().map(responses::get).toList()
+        );
+    }
+
+    /*
+     * Existing idempotency record: replay the stored response or reject the retry.
+     */
+    private CreatePaymentResponse replayOrReject(
+            IdempotencyKeyEntity idem,
+            CreatePaymentRequest req,
+            String requestHash
+    ) {
         // Check request hash with same idempotency key
-        if (!idem.getRequestHash().equals(requestHash)) {
+        if (!idem.getRequestHash().equals(requestHash)
+                && !idem.getRequestHash().equals(legacyHash(req))) {
+            paymentMetrics.idempotency(IdempotencyOutcome.CONFLICT);
             throw new ResponseStatusException(
                     HttpStatus.CONFLICT,
                     "Idempotency-Key was resued with a different request payload"
@@ -61,73 +230,91 @@ public class PaymentService {
         }
 
         if (idem.getStatus() == IdempotencyStatus.SUCCEEDED) {
+            paymentMetrics.idempotency(IdempotencyOutcome.REPLAY);
+            idempotencyResponseCache.put(
+                    idem.getIdempotencyKey(), requestHash, idem.getResponseCode(), idem.getResponseBody());
             return parseResponse(idem.getResponseBody());
         }
 
-        if (idem.getStatus() == IdempotencyStatus.IN_PROGRESS && !isNew) {
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT,
-                    "Request with the same Idempotency-Key is already in progress"
-            );
-        }
-
         if (idem.getStatus() == IdempotencyStatus.FAILED) {
+            paymentMetrics.idempotency(IdempotencyOutcome.CONFLICT);
             throw new ResponseStatusException(
                     HttpStatus.CONFLICT,
                     "Previous request with this Idempotency-Key failed"
             );
         }
 
-        // Create payment record
-        PaymentEntity saved = paymentRepository.save(
-                PaymentEntity.createNew(
-                        generatePaymentId(),
-                        key,
-                        req.paymentMethod(),
-                        req.amount(),
-                        req.currency(),
-                        req.description()
-                )
+        paymentMetrics.idempotency(IdempotencyOutcome.IN_PROGRESS);
+        throw new ResponseStatusException(
+                HttpStatus.CONFLICT,
+                "Request with the same Idempotency-Key is already in progress"
         );
+    }
 
-        // Create payment event log
-        String payloadJson = safeJson(req);
-
-        paymentEventRepository.save(
-                PaymentEventEntity.paymentCreated(
-                        saved.getPaymentId(),
-                        saved.getStatus(),
-                        payloadJson
-                )
+    private PaymentEntity newPayment(CreatePaymentRequest req, String idempotencyKey) {
+        return PaymentEntity.createNew(
+                generatePaymentId(),
+                idempotencyKey,
+                req.paymentMethod(),
+                req.amount(),
+                req.currency(),
+                req.description()
         );
+    }
 
-        // Generate response
-        CreatePaymentResponse response = new CreatePaymentResponse(
-                saved.getPaymentId(),
-                saved.getStatus(),
-                saved.getAmount(),
-                saved.getCurrency(),
-                saved.getCreatedAt()
+    private CreatePaymentResponse toCreateResponse(PaymentEntity payment) {
+        return new CreatePaymentResponse(
+                payment.getPaymentId(),
+                payment.getStatus(),
+                payment.getAmount(),
+                payment.getCurrency(),
+                payment.getCreatedAt()
         );
-        String responseJson = safeJson(response);
-        idem.markSucceeded(HttpStatus.CREATED.value(), responseJson);
-        idempotencyKeyRepository.save(idem);
+    }
 
-        return response;
+    /*
+     * Read-through the near-cache: a hit costs no transaction and no serialization.
+     * Not @Transactional on purpose, so a hit never borrows a connection.
+     */
+    public PaymentSnapshot getPayment(String paymentId) {
+        PaymentSnapshot cached = paymentSnapshotCache.get(paymentId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loadSnapshot(paymentId,
+                () -> readYourWrites.read(paymentId, () -> paymentRepository.findByPaymentId(paymentId)));
     }
 
-    @Transactional(readOnly = true)
-    public PaymentResponse getPayment(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
+    /*
+     * Current state from the primary, bypassing the near-cache and replicas
+     * (long-poll checks must not see an older status than the one notified).
+     */
+    public PaymentSnapshot getPaymentFromPrimary(String paymentId) {
+        return loadSnapshot(paymentId,
+                () -> ReplicaRoutingDataSource.onPrimary(() -> paymentRepository.findByPaymentId(paymentId)));
+    }
+
+    private PaymentSnapshot loadSnapshot(String paymentId, Supplier<Optional<PaymentEntity>> query) {
+        PaymentEntity payment = query.get()
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Payment not found: " + paymentId
                 ));
-        return toResponse(payment);
+        return paymentSnapshotCache.put(toResponse(payment), payment.getVersion());
     }
 
 
-    private String hash(CreatePaymentRequest request) {
+    String hash(CreatePaymentRequest request) {
+        return RequestFingerprint.sha256Hex(request);
+    }
+
+    /*
+     * Pre-fingerprint request_hash format: SHA-256 of the request JSON.
+     * Only used to recognise retries of keys stored before the switch;
+     * can go once those rows are past idempotency retention.
+     */
+    String legacyHash(CreatePaymentRequest request) {
         try {
             String json = safeJson(request);
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -139,7 +326,7 @@ public class PaymentService {
         }
     }
 
-    private CreatePaymentResponse parseResponse(String json) {
+    CreatePaymentResponse parseResponse(String json) {
         try {
             return objectMapper.readValue(json, CreatePaymentResponse.class);
         } catch (Exception e) {
@@ -148,15 +335,12 @@ public class PaymentService {
     }
 
     private String generatePaymentId() {
-        return UUID.randomUUID().toString();
+        return idGenerator.next();
     }
 
     @Transactional(readOnly = true)
     public List<PaymentEventResponse> getPaymentEvents(String paymentId) {
-        boolean exists = paymentRepository.existsByPaymentId(paymentId);
-        if (!exists) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found: " + paymentId);
-        }
+        readYourWrites.run(paymentId, () -> assertPaymentExists(paymentId));
         return paymentEventRepository.findByPaymentIdOrderByCreatedAtAsc(paymentId)
                 .stream()
                 .map(e -> new PaymentEventResponse(
@@ -169,111 +353,166 @@ public class PaymentService {
                 .toList();
     }
 
-    @Transactional
-    public PaymentResponse authorize(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
-
-        if (payment.getStatus() == PaymentStatus.AUTHORIZED) {
-            return toResponse(payment);
+    /*
+     * Keyset page of the event history, ordered by (created_at, id).
+     * The payment is only looked up when the first page comes back empty.
+     */
+    @Transactional(readOnly = true)
+    public PaymentEventPageResponse getPaymentEventsPage(String paymentId, String cursor, int limit) {
+        Instant afterCreatedAt = Instant.EPOCH;
+        long afterId = 0L;
+        if (cursor != null) {
+            try {
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                afterCreatedAt = after.createdAt();
+                afterId = Long.parseLong(after.tieBreaker());
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+        int pageSize = Math.clamp(limit, 1, MAX_EVENT_PAGE_SIZE);
+
+        // One extra row tells whether there is a next page
+        Instant fromCreatedAt = afterCreatedAt;
+        long fromId = afterId;
+        List<EventRow> rows = readYourWrites.read(paymentId,
+                () -> paymentEventJdbcRepository.findPage(paymentId, fromCreatedAt, fromId, pageSize + 1));
+        if (rows.isEmpty() && cursor == null) {
+            assertPaymentExists(paymentId);
         }
 
-        PaymentStatus oldStatus = payment.getStatus();
-        PaymentStatus newStatus = PaymentStatus.AUTHORIZED;
-        payment.changeStatus(newStatus);
-
-        String payloadJson = safeJson(Map.of(
-                "action", "authorized",
-                "at", Instant.now().toString()));
-
-        paymentEventWriter.statusChanged(payment, oldStatus, payloadJson);
+        boolean hasMore = rows.size() > pageSize;
+        List<EventRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EventRow last = page.getLast();
+            nextCursor = new KeysetCursor(last.createdAt(), Long.toString(last.id())).encode();
+        }
 
-        return toResponse(payment);
+        return new PaymentEventPageResponse(
+                page.stream().map(this::toEventResponse).toList(),
+                nextCursor
+        );
     }
 
-    public PaymentResponse settle(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+    /*
+     * Streams the full event history as NDJSON while it is read from the DB
+     * (server-side cursor), without materializing the list.
+     */
+    @Transactional(readOnly = true)
+    public void streamPaymentEvents(String paymentId, OutputStream out) {
+        readYourWrites.run(paymentId, () -> paymentEventJdbcRepository.stream(paymentId, row -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(toEventResponse(row)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
 
-        if (payment.getStatus() == PaymentStatus.SETTLED) {
-            return toResponse(payment);
+    @Transactional(readOnly = true)
+    public void assertPaymentExists(String paymentId) {
+        if (!readYourWrites.read(paymentId, () -> paymentRepository.existsByPaymentId(paymentId))) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found: " + paymentId);
         }
+    }
 
-        PaymentStatus oldStatus = payment.getStatus();
-        PaymentStatus newStatus = PaymentStatus.SETTLED;
-        payment.changeStatus(newStatus);
-
-        String payloadJson = safeJson(Map.of(
-           "action", "settle",
-           "at", Instant.now()
-        ));
-
-        paymentEventWriter.statusChanged(payment, oldStatus, payloadJson);
-        return toResponse(payment);
+    private PaymentEventResponse toEventResponse(EventRow row) {
+        return new PaymentEventResponse(
+                row.eventType(),
+                row.fromStatus(),
+                row.toStatus(),
+                row.payload(),
+                row.createdAt()
+        );
     }
 
-    public PaymentResponse cancel(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+    /*
+     * Transitions are not @Transactional: PaymentTransitionExecutor runs each attempt
+     * in its own transaction and backs off between them.
+     */
+    public PaymentResponse authorize(String paymentId) {
+        Instant now = Instant.now();
+        String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.AUTHORIZED, now);
 
-        if (payment.getStatus() == PaymentStatus.CANCELED) {
-            return toResponse(payment);
-        }
+        return toResponse(applyTransition(paymentId, PaymentStatus.AUTHORIZED, payloadJson, now, payment -> {
+        }));
+    }
 
-        PaymentStatus oldStatus = payment.getStatus();
-        PaymentStatus newStatus = PaymentStatus.CANCELED;
-        payment.changeStatus(newStatus);
+    public PaymentResponse settle(String paymentId) {
+        Instant now = Instant.now();
+        String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.SETTLED, now);
+
+        return toResponse(applyTransition(paymentId, PaymentStatus.SETTLED, payloadJson, now, payment -> {
+            long t = System.nanoTime();
+            ledgerPostingEngine.postSettlement(payment);
+            paymentMetrics.recordStage(PaymentStatus.SETTLED, TransitionStage.LEDGER, t);
+        }));
+    }
 
-        String payloadJson = safeJson(Map.of(
-                "action", "canceled",
-                "at", Instant.now()
-        ));
+    public PaymentResponse cancel(String paymentId) {
+        Instant now = Instant.now();
+        String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.CANCELED, now);
 
-        paymentEventWriter.statusChanged(payment, oldStatus, payloadJson);
-        return toResponse(payment);
+        return toResponse(applyTransition(paymentId, PaymentStatus.CANCELED, payloadJson, now, payment -> {
+        }));
     }
 
     public PaymentResponse fail(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
-
-        if (payment.getStatus() == PaymentStatus.FAILED) {
-            return toResponse(payment);
-        }
+        Instant now = Instant.now();
+        String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.FAILED, now);
 
-        PaymentStatus oldStatus = payment.getStatus();
-        PaymentStatus newStatus = PaymentStatus.FAILED;
-        payment.changeStatus(newStatus);
-
-        String payloadJson = safeJson(Map.of(
-                "action", "failed",
-                "at", Instant.now()
-        ));
-
-        paymentEventWriter.statusChanged(payment, oldStatus, payloadJson);
-        return toResponse(payment);
+        return toResponse(applyTransition(paymentId, PaymentStatus.FAILED, payloadJson, now, payment -> {
+        }));
     }
 
     public PaymentResponse reverse(String paymentId) {
-        PaymentEntity payment = paymentRepository.findByPaymentId(paymentId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+        Instant now = Instant.now();
+        String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.REVERSED, now);
+
+        return toResponse(applyTransition(paymentId, PaymentStatus.REVERSED, payloadJson, now, payment -> {
+            long t = System.nanoTime();
+            ledgerPostingEngine.postReversal(payment);
+            paymentMetrics.recordStage(PaymentStatus.REVERSED, TransitionStage.LEDGER, t);
+        }));
+    }
 
-        if (payment.getStatus() == PaymentStatus.REVERSED) {
-            return toResponse(payment);
+    /*
+     * onApplied (ledger postings) runs in the transaction that applied the transition.
+     */
+    private TransitionRow applyTransition(
+            String paymentId,
+            PaymentStatus target,
+            String payloadJson,
+            Instant at,
+            Consumer<TransitionRow> onApplied
+    ) {
+        long t = System.nanoTime();
+        TransitionRow row = paymentTransitionExecutor.apply(paymentId, target, payloadJson, at, applied -> {
+            paymentMetrics.recordStage(target, TransitionStage.STATEMENT, t);
+            paymentMetrics.statusChanged(applied.previousStatus(), applied.status(), 1);
+            paymentSnapshotCache.putAfterCommit(toResponse(applied), applied.version());
+            readYourWrites.written(applied.paymentId());
+            onApplied.accept(applied);
+        });
+        if (!row.applied()) {
+            paymentMetrics.recordStage(target, TransitionStage.STATEMENT, t);
         }
+        return row;
+    }
 
-        PaymentStatus oldStatus = payment.getStatus();
-        PaymentStatus newStatus = PaymentStatus.REVERSED;
-        payment.changeStatus(newStatus);
-
-        String payloadJson = safeJson(Map.of(
-                "action", "reversed",
-                "at", Instant.now()
-        ));
-
-        paymentEventWriter.statusChanged(payment, oldStatus, payloadJson);
-        return toResponse(payment);
+    private PaymentResponse toResponse(TransitionRow payment) {
+        return new PaymentResponse(
+                payment.paymentId(),
+                payment.status(),
+                payment.amount(),
+                payment.currency(),
+                payment.createdAt(),
+                payment.updatedAt()
+        );
     }
+
     private PaymentResponse toResponse(PaymentEntity payment) {
         return new PaymentResponse(
                 payment.getPaymentId(),
@@ -286,7 +525,7 @@ public class PaymentService {
     }
 
 
-    private String safeJson(Object value) {
+    String safeJson(Object value) {
         try {
             return objectMapper.writeValueAsString(value);
         } catch (Exception ignore) {
@@ -0,0 +1,129 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Runs a version-checked transition statement, retrying when it loses a race.
+ *
+ * A conflict is an attempt that read an allowed source status but matched
+ * zero rows because another transaction changed the row (and its version)
+ * first. Every attempt is its own transaction: the statement and, when it
+ * applied, the caller's follow-up work (ledger postings, cache updates) commit
+ * together. The backoff runs between transactions, so a request waiting out a
+ * hot payment holds no pooled connection and no row locks. The retry sees the
+ * winner's row: it then applies, returns idempotently, or fails as an invalid
+ * transition.
+ *
+ * Callers must not run apply inside their own transaction: the attempts would
+ * join it and the backoff would sleep while holding its connection.
+ *
+ * Metrics, tagged with the target status:
+ *  - payment.transition.conflicts : attempts that lost a race
+ *  - payment.transition.retries   : attempts re-run after a conflict
+ */
+@Component
+public class PaymentTransitionExecutor {
+    private final PaymentTransitionJdbcRepository paymentTransitionJdbcRepository;
+    private final TransitionRetryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<PaymentStatus, Counter> conflicts = new EnumMap<>(PaymentStatus.class);
+    private final Map<PaymentStatus, Counter> retries = new EnumMap<>(PaymentStatus.class);
+
+    public PaymentTransitionExecutor(
+            PaymentTransitionJdbcRepository paymentTransitionJdbcRepository,
+            TransitionRetryProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentTransitionJdbcRepository = paymentTransitionJdbcRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (PaymentStatus target : PaymentStatus.values()) {
+            String tag = target.name().toLowerCase();
+            conflicts.put(target, Counter.builder("payment.transition.conflicts")
+                    .description("Transition attempts that lost a race with a concurrent change")
+                    .tag("transition", tag)
+                    .register(meterRegistry));
+            retries.put(target, Counter.builder("payment.transition.retries")
+                    .description("Transition attempts re-run after a conflict")
+                    .tag("transition", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public TransitionRow apply(String paymentId, PaymentStatus target, String payloadJson, Instant at) {
+        return apply(paymentId, target, payloadJson, at, row -> {
+        });
+    }
+
+    /*
+     * onApplied runs in the transaction of the attempt that applied the transition.
+     * Already in the target status: returned unchanged (idempotent, no event).
+     * Not an allowed source, or still conflicting after maxAttempts: 409.
+     */
+    public TransitionRow apply(
+            String paymentId,
+            PaymentStatus target,
+            String payloadJson,
+            Instant at,
+            Consumer<TransitionRow> onApplied
+    ) {
+        Set<PaymentStatus> sources = PaymentStatus.sourcesOf(target);
+        int maxAttempts = Math.max(1, properties.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            TransitionRow row = transactionTemplate.execute(tx -> {
+                TransitionRow attempted = paymentTransitionJdbcRepository
+                        .transition(paymentId, target, sources, payloadJson, at)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Payment not found"));
+                if (attempted.applied()) onApplied.accept(attempted);
+                return attempted;
+            });
+
+            if (row.applied() || row.status() == target) {
+                return row;
+            }
+            if (!sources.contains(row.previousStatus())) {
+                throw new IllegalStateException(
+                        "Invalid status transition: " + row.status() + " -> " + target
+                );
+            }
+
+            conflicts.get(target).increment();
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("Payment was modified concurrently: " + paymentId);
+            }
+            retries.get(target).increment();
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long base = properties.backoff().toNanos() << Math.min(attempt - 1, 20);
+        long cap = Math.min(base, properties.maxBackoff().toNanos());
+        if (cap <= 0) return;
+        try {
+            Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(cap + 1)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a payment transition", e);
+        }
+    }
+}
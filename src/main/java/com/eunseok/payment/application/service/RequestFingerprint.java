@@ -0,0 +1,150 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Canonical SHA-256 fingerprint of a {@link CreatePaymentRequest}.
+ *
+ * Fields are fed straight into a pooled digest in a fixed order,
+ * each one tagged and length-prefixed, so the result does not depend on
+ * JSON property order and "ab" + "c" never collides with "a" + "bc".
+ * Apart from the returned hex String nothing is allocated per call.
+ *
+ * Digests are borrowed from a small shared pool rather than kept per thread:
+ * requests run on virtual threads (one per request), where a ThreadLocal
+ * would build a new MessageDigest for every call.
+ *
+ * Layout (version 1):
+ *   version:byte
+ *   amount:   tag:byte [long]
+ *   currency, paymentMethod, description: tag:byte [length:int, utf8 bytes]
+ * where tag is 0 for null and 1 for a present value.
+ */
+final class RequestFingerprint {
+    private static final byte VERSION = 1;
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ArrayBlockingQueue<State> POOL =
+            new ArrayBlockingQueue<>(Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+
+    private RequestFingerprint() {}
+
+    static String sha256Hex(CreatePaymentRequest request) {
+        State state = POOL.poll();
+        if (state == null) {
+            state = new State();
+        }
+        try {
+            MessageDigest digest = state.digest;
+            digest.reset();
+
+            digest.update(VERSION);
+            if (request.amount() == null) {
+                digest.update(ABSENT);
+            } else {
+                digest.update(PRESENT);
+                state.putLong(request.amount());
+            }
+            state.putString(request.currency());
+            state.putString(request.paymentMethod());
+            state.putString(request.description());
+
+            return state.finishHex();
+        } finally {
+            POOL.offer(state);
+        }
+    }
+
+    private static final class State {
+        private final MessageDigest digest;
+        private final byte[] hash = new byte[32];
+        private final byte[] hex = new byte[64];
+        private byte[] scratch = new byte[256];
+
+        State() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        void putLong(long v) {
+            for (int i = 0; i < 8; i++) {
+                scratch[i] = (byte) (v >>> (56 - 8 * i));
+            }
+            digest.update(scratch, 0, 8);
+        }
+
+        void putString(String s) {
+            if (s == null) {
+                digest.update(ABSENT);
+                return;
+            }
+            int len = encodeUtf8(s);
+            digest.update(PRESENT);
+            digest.update((byte) (len >>> 24));
+            digest.update((byte) (len >>> 16));
+            digest.update((byte) (len >>> 8));
+            digest.update((byte) len);
+            digest.update(scratch, 0, len);
+        }
+
+        /*
+         * UTF-8 into the reusable scratch buffer. Unpaired surrogates become '?',
+         * the same replacement String.getBytes(UTF_8) uses.
+         */
+        private int encodeUtf8(String s) {
+            int max = s.length() * 3;
+            if (scratch.length < max) {
+                scratch = new byte[Math.max(max, scratch.length * 2)];
+            }
+            byte[] out = scratch;
+            int n = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    out[n++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[n++] = (byte) (0xC0 | (c >> 6));
+                    out[n++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)
+                        && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    out[n++] = (byte) (0xF0 | (cp >> 18));
+                    out[n++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    out[n++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    out[n++] = (byte) (0x80 | (cp & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    out[n++] = '?';
+                } else {
+                    out[n++] = (byte) (0xE0 | (c >> 12));
+                    out[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    out[n++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return n;
+        }
+
+        String finishHex() {
+            try {
+                digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException("Failed to hash request", e);
+            }
+            for (int i = 0; i < hash.length; i++) {
+                hex[2 * i] = HEX[(hash[i] >> 4) & 0x0F];
+                hex[2 * i + 1] = HEX[hash[i] & 0x0F];
+            }
+            return new String(hex, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
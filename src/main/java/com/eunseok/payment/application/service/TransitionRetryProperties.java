@@ -0,0 +1,21 @@
+package com.eunseok.payment.application.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.transitions.retry.*
+ *
+ * maxAttempts - statement attempts per transition call (1 = no retry)
+ * backoff     - base delay before the first retry, doubled per retry, with full jitter
+ * maxBackoff  - cap on a single delay
+ */
+@ConfigurationProperties(prefix = "payment.transitions.retry")
+public record TransitionRetryProperties(
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("5ms") Duration backoff,
+        @DefaultValue("50ms") Duration maxBackoff
+) {
+}
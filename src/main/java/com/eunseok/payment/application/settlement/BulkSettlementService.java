@@ -0,0 +1,256 @@
+package com.eunseok.payment.application.settlement;
+
+import com.eunseok.payment.api.dto.SettlementRunResponse;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache;
+import com.eunseok.payment.application.ledger.LedgerPostingEngine;
+import com.eunseok.payment.application.service.PaymentEventPayloads;
+import com.eunseok.payment.application.service.PaymentMetrics;
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.domain.model.SettlementRunStatus;
+import com.eunseok.payment.infra.datasource.ReadYourWrites;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import com.eunseok.payment.infra.persistence.jdbc.SettlementJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.SettlementJdbcRepository.SettlementRunRow;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * End-of-day capture: settles every AUTHORIZED payment created before a cutoff.
+ *
+ * Workers repeatedly claim a chunk (FOR UPDATE SKIP LOCKED, oldest first) and
+ * settle it in its own transaction: one set-based UPDATE + event INSERT
+ * statement and one ledger journal for the chunk. Each worker posts its journals
+ * to its own balance stripe, so workers share no row lock; the run's progress
+ * counters are updated after the chunk commits, outside its lock window.
+ * A run is done when no worker can claim anything.
+ *
+ * Resuming is safe by construction: committed chunks are SETTLED and no longer
+ * match, an interrupted chunk rolled back as a whole. A shutdown lets workers
+ * finish their chunk and marks the run INTERRUPTED; such runs are picked up on
+ * the next startup. Runs whose process died stay RUNNING and are picked up once
+ * their lease expired, by the rescan every lease. Any run can also be resumed
+ * via the resume endpoint.
+ */
+@Slf4j
+@Service
+public class BulkSettlementService {
+    private final SettlementJdbcRepository settlementJdbcRepository;
+    private final LedgerPostingEngine ledgerPostingEngine;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final PaymentEventPayloads paymentEventPayloads;
+    private final SettlementProperties properties;
+    private final PaymentMetrics paymentMetrics;
+    private final PaymentSnapshotCache paymentSnapshotCache;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+
+    // runs with workers in this process, completed once their outcome is recorded
+    private final Map<String, CompletableFuture<?>> activeRuns = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public BulkSettlementService(
+            SettlementJdbcRepository settlementJdbcRepository,
+            LedgerPostingEngine ledgerPostingEngine,
+            TimeOrderedIdGenerator idGenerator,
+            PaymentEventPayloads paymentEventPayloads,
+            SettlementProperties properties,
+            PaymentMetrics paymentMetrics,
+            PaymentSnapshotCache paymentSnapshotCache,
+            ReadYourWrites readYourWrites,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.settlementJdbcRepository = settlementJdbcRepository;
+        this.ledgerPostingEngine = ledgerPostingEngine;
+        this.idGenerator = idGenerator;
+        this.paymentEventPayloads = paymentEventPayloads;
+        this.properties = properties;
+        this.paymentMetrics = paymentMetrics;
+        this.paymentSnapshotCache = paymentSnapshotCache;
+        this.readYourWrites = readYourWrites;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SettlementRunResponse start(Instant createdBefore, Integer workers, Integer chunkSize) {
+        String runId = idGenerator.next();
+        settlementJdbcRepository.insertRun(
+                runId,
+                createdBefore == null ? Instant.now() : createdBefore,
+                chunkSize == null ? properties.chunkSize() : chunkSize,
+                workers == null ? properties.workers() : workers
+        );
+
+        SettlementRunRow run = findRun(runId);
+        launch(run);
+        return toResponse(run);
+    }
+
+    public SettlementRunResponse resume(String runId) {
+        SettlementRunRow run = findRun(runId);
+        if (run.status() == SettlementRunStatus.COMPLETED) {
+            throw new IllegalStateException("Settlement run already completed: " + runId);
+        }
+        if (activeRuns.containsKey(runId)) {
+            return toResponse(run);
+        }
+        settlementJdbcRepository.markRunning(runId);
+        launch(run);
+        return toResponse(findRun(runId));
+    }
+
+    public SettlementRunResponse get(String runId) {
+        return toResponse(findRun(runId));
+    }
+
+    /*
+     * On startup for runs interrupted by a shutdown, then every lease for runs whose process died.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${payment.settlement.lease:1m}", fixedDelayString = "${payment.settlement.lease:1m}")
+    public void resumeStaleRuns() {
+        if (!properties.resumeOnStartup() || stopping) return;
+
+        for (SettlementRunRow run : settlementJdbcRepository.claimResumable(Instant.now().minus(properties.lease()))) {
+            log.info("Resuming settlement run {} ({} settled so far)", run.runId(), run.settledCount());
+            launch(run);
+        }
+    }
+
+    /*
+     * Workers finish their current chunk and exit; the run is marked INTERRUPTED, so the next
+     * startup resumes it right away. Waits up to one lease for that, after which the run stays
+     * RUNNING and is resumed once the lease expired.
+     */
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        CompletableFuture<?> all = CompletableFuture.allOf(activeRuns.values().toArray(CompletableFuture<?>[]::new));
+        try {
+            all.get(properties.lease().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Settlement runs {} did not stop within {}", activeRuns.keySet(), properties.lease());
+        }
+    }
+
+    private void launch(SettlementRunRow run) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        if (activeRuns.putIfAbsent(run.runId(), done) != null) return;
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                run.workers(),
+                Thread.ofPlatform().name("settlement-" + run.runId() + "-", 0).factory()
+        );
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[run.workers()];
+        for (int i = 0; i < workers.length; i++) {
+            int worker = i;
+            workers[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    while (!stopping && !failed.get() && settleChunk(run, worker) > 0) {
+                        // next chunk
+                    }
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    error.compareAndSet(null, e);
+                }
+            }, executor);
+        }
+
+        CompletableFuture.allOf(workers).whenComplete((ignored, t) -> {
+            try {
+                if (failed.get()) {
+                    log.error("Settlement run {} failed", run.runId(), error.get());
+                    settlementJdbcRepository.finish(run.runId(), SettlementRunStatus.FAILED, truncate(error.get()));
+                } else if (stopping) {
+                    settlementJdbcRepository.interrupt(run.runId());
+                    log.info("Settlement run {} interrupted by shutdown", run.runId());
+                } else {
+                    settlementJdbcRepository.finish(run.runId(), SettlementRunStatus.COMPLETED, null);
+                    log.info("Settlement run {} completed", run.runId());
+                }
+            } finally {
+                activeRuns.remove(run.runId());
+                executor.shutdown();
+                done.complete(null);
+            }
+        });
+    }
+
+    /*
+     * One chunk, one transaction. Returns the number of payments settled (0 = nothing left).
+     * Progress is recorded after the commit: a process that dies in between settled the chunk
+     * but under-counts it, which does not affect resuming.
+     */
+    private int settleChunk(SettlementRunRow run, int worker) {
+        Integer settled = transactionTemplate.execute(tx -> {
+            Instant now = Instant.now();
+            String payloadJson = paymentEventPayloads.statusChanged(PaymentStatus.SETTLED, now, run.runId());
+
+            List<TransitionRow> rows = settlementJdbcRepository.settleChunk(
+                    run.createdBefore(), run.chunkSize(), payloadJson, now);
+            if (rows.isEmpty()) return 0;
+
+            ledgerPostingEngine.postSettlements(rows, worker);
+            paymentMetrics.statusChanged(PaymentStatus.AUTHORIZED, PaymentStatus.SETTLED, rows.size());
+            List<String> paymentIds = rows.stream().map(TransitionRow::paymentId).toList();
+            paymentSnapshotCache.invalidateAfterCommit(paymentIds);
+            readYourWrites.written(paymentIds);
+            return rows.size();
+        });
+        if (settled == null || settled == 0) return 0;
+
+        settlementJdbcRepository.recordChunk(run.runId(), settled);
+        return settled;
+    }
+
+    private SettlementRunRow findRun(String runId) {
+        return settlementJdbcRepository.findRun(runId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Settlement run not found"));
+    }
+
+    private static String truncate(Throwable t) {
+        String msg = t == null ? null : String.valueOf(t.getMessage());
+        return msg == null || msg.length() <= 1000 ? msg : msg.substring(0, 1000);
+    }
+
+    private static SettlementRunResponse toResponse(SettlementRunRow run) {
+        return new SettlementRunResponse(
+                run.runId(),
+                run.status(),
+                run.createdBefore(),
+                run.workers(),
+                run.chunkSize(),
+                run.settledCount(),
+                run.chunkCount(),
+                run.lastError(),
+                run.startedAt(),
+                run.updatedAt(),
+                run.finishedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.eunseok.payment.application.settlement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/*
+ * payment.settlement.*
+ *
+ * workers         - default parallel workers per run (each commits its own chunks)
+ * chunkSize       - default payments settled per chunk / transaction
+ * resumeOnStartup - pick up INTERRUPTED runs on startup, and RUNNING runs whose process died
+ * lease           - a RUNNING run without progress for this long is considered dead;
+ *                   also the rescan interval and how long a shutdown waits for workers
+ */
+@ConfigurationProperties(prefix = "payment.settlement")
+public record SettlementProperties(
+        @DefaultValue("4") int workers,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("true") boolean resumeOnStartup,
+        @DefaultValue("1m") Duration lease
+) {
+}
@@ -0,0 +1,50 @@
+package com.eunseok.payment.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/*
+ * Flyway at startup (payment.flyway.migrate).
+ *
+ * migrate=true  -> flyway.migrate(): scans and checksums every migration, validates the history, applies pending ones
+ * migrate=false -> one query for the latest successful migration; startup fails if there is none
+ *
+ * A runtime switch rather than spring.flyway.enabled, which is a bean condition and is fixed
+ * at build time in the AOT-processed application (see docs/fast-startup.md).
+ */
+@Slf4j
+@Configuration
+public class FlywayStartupConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(FlywayStartupProperties properties) {
+        return flyway -> {
+            if (properties.migrate()) {
+                flyway.migrate();
+                return;
+            }
+            log.info("Flyway migration skipped (payment.flyway.migrate=false), schema version {}", installedVersion(flyway));
+        };
+    }
+
+    private static String installedVersion(Flyway flyway) {
+        String schema = flyway.getConfiguration().getDefaultSchema();
+        String table = (schema == null ? "" : "\"" + schema + "\".") + "\"" + flyway.getConfiguration().getTable() + "\"";
+        try {
+            List<String> versions = new JdbcTemplate(flyway.getConfiguration().getDataSource()).queryForList(
+                    "SELECT version FROM " + table + " WHERE success AND version IS NOT NULL ORDER BY installed_rank DESC LIMIT 1",
+                    String.class);
+            if (!versions.isEmpty()) return versions.getFirst();
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("payment.flyway.migrate=false but " + table + " cannot be read", e);
+        }
+        throw new IllegalStateException("payment.flyway.migrate=false but the schema has not been migrated");
+    }
+}
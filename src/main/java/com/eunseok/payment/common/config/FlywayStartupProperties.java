@@ -0,0 +1,17 @@
+package com.eunseok.payment.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * payment.flyway.*
+ *
+ * migrate - validate and migrate the schema at startup. false on instances that start
+ *           against a schema migrated by another instance or a deploy job: only the
+ *           schema history is checked (see FlywayStartupConfig)
+ */
+@ConfigurationProperties(prefix = "payment.flyway")
+public record FlywayStartupProperties(
+        @DefaultValue("true") boolean migrate
+) {
+}
@@ -0,0 +1,22 @@
+package com.eunseok.payment.common.config;
+
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /*
+     * Time-ordered ids for payment ids and generated idempotency keys.
+     */
+    @Bean
+    public TimeOrderedIdGenerator timeOrderedIdGenerator(IdGeneratorProperties properties) {
+        int nodeId = properties.nodeId() >= 0
+                ? properties.nodeId()
+                : ThreadLocalRandom.current().nextInt(1 << properties.nodeBits());
+        return new TimeOrderedIdGenerator(nodeId, properties.nodeBits());
+    }
+}
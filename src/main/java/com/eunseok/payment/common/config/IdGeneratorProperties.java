@@ -0,0 +1,17 @@
+package com.eunseok.payment.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/*
+ * payment.ids.*
+ *
+ * nodeId   - node component embedded in generated ids (-1 = random per start)
+ * nodeBits - bits reserved for the node component (0..16)
+ */
+@ConfigurationProperties(prefix = "payment.ids")
+public record IdGeneratorProperties(
+        @DefaultValue("-1") int nodeId,
+        @DefaultValue("10") int nodeBits
+) {
+}
@@ -0,0 +1,101 @@
+package com.eunseok.payment.common.config;
+
+import com.eunseok.payment.infra.datasource.ReplicaProperties;
+import com.eunseok.payment.infra.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Read replicas (payment.datasource.replicas.enabled=true).
+ *
+ * dataSource = LazyConnectionDataSourceProxy
+ *   read-write transactions, non-transactional access -> primary pool
+ *   read-only transactions                           -> ReplicaRoutingDataSource -> replica pools
+ *
+ * Every pool reports hikaricp.connections.*{pool=primary|replica-N}.
+ * Flyway, JPA and JdbcTemplate all use the proxy; only read-only transactions ever reach a replica.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails
+    ) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource primary = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(details != null ? details.getJdbcUrl() : properties.determineUrl())
+                .username(details != null ? details.getUsername() : properties.determineUsername())
+                .password(details != null ? details.getPassword() : properties.determinePassword())
+                .driverClassName(details != null ? details.getDriverClassName() : properties.determineDriverClassName())
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaPools replicaPools(
+            HikariDataSource primaryDataSource,
+            ReplicaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariConfig config = new HikariConfig();
+            // Same driver settings as the primary (batching, timeouts), own url and size
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(properties.urls().get(i));
+            if (properties.username() != null) config.setUsername(properties.username());
+            if (properties.password() != null) config.setPassword(properties.password());
+            config.setMaximumPoolSize(properties.maximumPoolSize());
+            config.setReadOnly(true);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return new ReplicaPools(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, replicaPools.pools()));
+        // Known defaults, so the proxy does not borrow a connection at startup to find them out
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    /*
+     * Replica pools, closed with the context (they are not beans of their own).
+     */
+    public record ReplicaPools(Map<String, DataSource> pools) implements DisposableBean {
+        @Override
+        public void destroy() {
+            pools.values().forEach(pool -> ((HikariDataSource) pool).close());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.eunseok.payment.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor: the (created_at, tie-breaker) of the last
+ * row of a page, as URL-safe Base64. Timestamps keep microsecond precision,
+ * which is what Postgres stores.
+ */
+public record KeysetCursor(Instant createdAt, String tieBreaker) {
+
+    public String encode() {
+        long micros = Math.addExact(
+                Math.multiplyExact(createdAt.getEpochSecond(), 1_000_000L),
+                createdAt.getNano() / 1_000L
+        );
+        String raw = micros + ":" + tieBreaker;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /*
+     * Throws IllegalArgumentException for anything that is not a cursor we issued.
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep <= 0 || sep == raw.length() - 1) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            long micros = Long.parseLong(raw.substring(0, sep));
+            Instant createdAt = Instant.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L),
+                    Math.floorMod(micros, 1_000_000L) * 1_000L
+            );
+            return new KeysetCursor(createdAt, raw.substring(sep + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.eunseok.payment.common.util;
 
-import java.util.UUID;
+import java.util.function.Supplier;
 
 public final class Strings {
     private Strings() {}
 
-    public static String normalizedOrGenerate(String rawKey) {
+    public static String normalizedOrGenerate(String rawKey, Supplier<String> generator) {
         if (rawKey == null || rawKey.isBlank()) {
-            return UUID.randomUUID().toString();
+            return generator.get();
         }
         return rawKey.trim();
     }
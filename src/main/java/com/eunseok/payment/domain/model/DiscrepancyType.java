@@ -0,0 +1,17 @@
+package com.eunseok.payment.domain.model;
+
+/*
+ * Reconciliation findings, payments against their payment_events history:
+ *
+ * MISSING_HISTORY    - the payment has no status events
+ * STATUS_MISMATCH    - payments.status differs from the last event's to_status
+ * ILLEGAL_TRANSITION - an event's from -> to is not allowed by PaymentStatus.canTransitionTo
+ *                      (or the first event does not create the payment in INIT)
+ * BROKEN_CHAIN       - an event's from_status differs from the previous event's to_status
+ */
+public enum DiscrepancyType {
+    MISSING_HISTORY,
+    STATUS_MISMATCH,
+    ILLEGAL_TRANSITION,
+    BROKEN_CHAIN
+}
@@ -0,0 +1,6 @@
+package com.eunseok.payment.domain.model;
+
+public enum LedgerEntryType {
+    DEBIT,
+    CREDIT
+}
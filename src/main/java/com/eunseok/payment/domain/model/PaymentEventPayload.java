@@ -0,0 +1,46 @@
+package com.eunseok.payment.domain.model;
+
+import java.time.Instant;
+
+/*
+ * payment_events.payload documents, one record per PaymentEventType written.
+ *
+ * v  - schema version of the record; bump it when a field changes meaning or is removed.
+ *      Written from version 2 on: a payload without v is version 1, which is also the
+ *      shape of every row written before the records existed
+ * at - ISO-8601 instant (Instant.toString), the same value as the event's created_at
+ *
+ * Null fields are omitted. Consumers can read a payload back into its record.
+ */
+public sealed interface PaymentEventPayload {
+    int SCHEMA_VERSION = 1;
+
+    /*
+     * PAYMENT_CREATED: the accepted request.
+     */
+    record Created(
+            Integer v,
+            Long amount,
+            String currency,
+            String paymentMethod,
+            String description
+    ) implements PaymentEventPayload {
+        public Created {
+            if (v == null) v = 1;
+        }
+    }
+
+    /*
+     * STATUS_CHANGED: runId is set for bulk settlement chunks.
+     */
+    record StatusChanged(
+            Integer v,
+            String action,
+            Instant at,
+            String runId
+    ) implements PaymentEventPayload {
+        public StatusChanged {
+            if (v == null) v = 1;
+        }
+    }
+}
@@ -1,4 +1,14 @@
 package com.eunseok.payment.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /*
  * Payment lifecycle actions:
  *
@@ -30,4 +40,53 @@ public enum PaymentStatus {
             default -> false;
         };
     }
+
+    /*
+     * No transition leaves this status. SETTLED is not terminal: it can still be reversed.
+     */
+    public boolean isTerminal() {
+        return this == FAILED || this == CANCELED || this == REVERSED;
+    }
+
+    private static final Map<PaymentStatus, Set<PaymentStatus>> SOURCES = new EnumMap<>(PaymentStatus.class);
+
+    static {
+        for (PaymentStatus target : values()) {
+            EnumSet<PaymentStatus> sources = EnumSet.noneOf(PaymentStatus.class);
+            for (PaymentStatus source : values()) {
+                if (source.canTransitionTo(target)) sources.add(source);
+            }
+            SOURCES.put(target, Collections.unmodifiableSet(sources));
+        }
+    }
+
+    /*
+     * Statuses that may transition to target (the inverse of canTransitionTo).
+     */
+    public static Set<PaymentStatus> sourcesOf(PaymentStatus target) {
+        return SOURCES.get(target);
+    }
+
+    private static final Map<PaymentStatus, Set<PaymentStatus>> REACHABLE = new EnumMap<>(PaymentStatus.class);
+
+    static {
+        for (PaymentStatus from : values()) {
+            EnumSet<PaymentStatus> reachable = EnumSet.noneOf(PaymentStatus.class);
+            Deque<PaymentStatus> pending = new ArrayDeque<>(List.of(from));
+            while (!pending.isEmpty()) {
+                PaymentStatus current = pending.pop();
+                for (PaymentStatus next : values()) {
+                    if (current.canTransitionTo(next) && reachable.add(next)) pending.push(next);
+                }
+            }
+            REACHABLE.put(from, Collections.unmodifiableSet(reachable));
+        }
+    }
+
+    /*
+     * Whether target can still be reached from this status through one or more transitions.
+     */
+    public boolean canReach(PaymentStatus target) {
+        return REACHABLE.get(this).contains(target);
+    }
 }
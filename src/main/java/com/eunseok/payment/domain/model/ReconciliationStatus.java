@@ -0,0 +1,7 @@
+package com.eunseok.payment.domain.model;
+
+public enum ReconciliationStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
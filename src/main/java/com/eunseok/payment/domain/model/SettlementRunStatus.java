@@ -0,0 +1,8 @@
+package com.eunseok.payment.domain.model;
+
+public enum SettlementRunStatus {
+    RUNNING,
+    INTERRUPTED,
+    COMPLETED,
+    FAILED
+}
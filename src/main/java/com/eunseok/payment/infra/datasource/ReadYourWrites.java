@@ -0,0 +1,61 @@
+package com.eunseok.payment.infra.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Staleness fallback for replica reads.
+ *
+ * Payments written by this instance are remembered for
+ * payment.datasource.replicas.read-your-writes; reads of such a payment go to
+ * the primary, so a client that just created or moved a payment does not get
+ * a 404 or the previous status from a lagging replica. Everything else reads
+ * from the replicas. Without replicas this is a pass-through.
+ */
+@Component
+public class ReadYourWrites {
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWrites(ReplicaProperties properties) {
+        this.enabled = properties.enabled() && !properties.urls().isEmpty();
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(properties.trackedPayments())
+                .expireAfterWrite(properties.readYourWrites())
+                .build();
+    }
+
+    public void written(String paymentId) {
+        if (!enabled) return;
+        recentWrites.put(paymentId, Boolean.TRUE);
+    }
+
+    public void written(Collection<String> paymentIds) {
+        if (!enabled) return;
+        for (String paymentId : paymentIds) {
+            recentWrites.put(paymentId, Boolean.TRUE);
+        }
+    }
+
+    /*
+     * Runs a read of one payment, on the primary if this instance wrote it recently.
+     * Call it before the transaction's first statement (see ReplicaRoutingDataSource).
+     */
+    public <T> T read(String paymentId, Supplier<T> query) {
+        if (!enabled || recentWrites.getIfPresent(paymentId) == null) {
+            return query.get();
+        }
+        return ReplicaRoutingDataSource.onPrimary(query);
+    }
+
+    public void run(String paymentId, Runnable query) {
+        read(paymentId, () -> {
+            query.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.eunseok.payment.infra.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * payment.datasource.replicas.*
+ *
+ * urls                - JDBC urls of the read replicas; read-only transactions are spread over them
+ * username / password - replica credentials (default: the primary's)
+ * maximumPoolSize     - connections per replica pool
+ * readYourWrites      - how long a payment written by this instance is read from the primary
+ *                       (covers replication lag for a client reading its own write)
+ * trackedPayments     - recently written payment ids kept for that purpose
+ */
+@ConfigurationProperties(prefix = "payment.datasource.replicas")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("5s") Duration readYourWrites,
+        @DefaultValue("100000") long trackedPayments
+) {
+}
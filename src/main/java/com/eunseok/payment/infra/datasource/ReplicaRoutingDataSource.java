@@ -0,0 +1,63 @@
+package com.eunseok.payment.infra.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Read-only side of the DataSource: round robin over the replica pools, or
+ * the primary while {@link #onPrimary} is active on the calling thread.
+ *
+ * It only sees connections of read-only transactions: the
+ * LazyConnectionDataSourceProxy in front (see ReplicaDataSourceConfig) fetches
+ * the physical connection at the first statement, once the transaction's
+ * read-only flag is known, and picks this DataSource only when it is set.
+ * For the same reason a pin has to be in place before the transaction's first
+ * statement; it has no effect on a connection that is already open.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final List<String> replicaKeys;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        afterPropertiesSet();
+    }
+
+    /*
+     * Runs query with read-only connections taken from the primary.
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        if (Boolean.TRUE.equals(PINNED.get())) {
+            return query.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty() || Boolean.TRUE.equals(PINNED.get())) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+}
@@ -17,7 +17,8 @@ import java.time.Instant;
 public class IdempotencyKeyEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_keys_id_seq")
+    @SequenceGenerator(name = "idempotency_keys_id_seq", sequenceName = "idempotency_keys_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "idempotency_key", nullable = false, length = 128)
@@ -0,0 +1,57 @@
+package com.eunseok.payment.infra.persistence.entity;
+
+import com.eunseok.payment.domain.model.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ledger_entries")
+@Getter
+public class LedgerEntryEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entries_id_seq")
+    @SequenceGenerator(name = "ledger_entries_id_seq", sequenceName = "ledger_entries_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false, length = 64)
+    private String paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 16)
+    private LedgerEntryType entryType;
+
+    @Column(name = "account_key", nullable = false, length = 128)
+    private String accountKey;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected LedgerEntryEntity() {}
+
+    public static LedgerEntryEntity of(
+            String paymentId,
+            LedgerEntryType entryType,
+            String accountKey,
+            Long amount,
+            String currency,
+            Instant createdAt
+    ) {
+        var e = new LedgerEntryEntity();
+        e.paymentId = paymentId;
+        e.entryType = entryType;
+        e.accountKey = accountKey;
+        e.amount = amount;
+        e.currency = currency;
+        e.createdAt = createdAt;
+
+        return e;
+    }
+}
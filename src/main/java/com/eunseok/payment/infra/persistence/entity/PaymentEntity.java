@@ -11,7 +11,8 @@ import java.time.Instant;
 @Table(name = "payments")
 public class PaymentEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_id_seq")
+    @SequenceGenerator(name = "payments_id_seq", sequenceName = "payments_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "payment_id", nullable = false, unique = true, length = 64)
@@ -33,6 +34,10 @@ public class PaymentEntity {
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Column(name = "description", length = 255)
     private String description;
 
@@ -72,6 +77,10 @@ public class PaymentEntity {
         return paymentId;
     }
 
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
     public PaymentStatus getStatus() {
         return status;
     }
@@ -84,6 +93,10 @@ public class PaymentEntity {
         return currency;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
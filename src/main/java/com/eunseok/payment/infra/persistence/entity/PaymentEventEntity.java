@@ -15,7 +15,8 @@ import java.time.Instant;
 @Getter
 public class PaymentEventEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_events_id_seq")
+    @SequenceGenerator(name = "payment_events_id_seq", sequenceName = "payment_events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "payment_id", nullable = false, length = 64)
@@ -40,12 +41,17 @@ public class PaymentEventEntity {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    // payments.version after the change, see V11__payment_events_payment_version.sql
+    @Column(name = "payment_version")
+    private Long paymentVersion;
+
     protected PaymentEventEntity() {}
 
     public static PaymentEventEntity paymentCreated(
             String paymentId,
             PaymentStatus toStatus,
-            String payloadJson
+            String payloadJson,
+            long paymentVersion
     ) {
 
         var e = new PaymentEventEntity();
@@ -55,6 +61,7 @@ public class PaymentEventEntity {
         e.toStatus = toStatus;
         e.payload = payloadJson;
         e.createdAt = Instant.now();
+        e.paymentVersion = paymentVersion;
 
         return e;
     }
@@ -0,0 +1,179 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.domain.model.LedgerEntryType;
+import com.eunseok.payment.infra.persistence.entity.LedgerEntryEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Balance projection: striped running totals and periodic snapshots.
+ */
+@Repository
+public class AccountBalanceJdbcRepository {
+    private static final String APPLY_SQL = """
+            INSERT INTO account_balances (account_key, currency, stripe, debit_total, credit_total, updated_at)
+            VALUES (?, ?, ?, ?, ?, now())
+            ON CONFLICT (account_key, currency, stripe) DO UPDATE
+            SET debit_total = account_balances.debit_total + EXCLUDED.debit_total,
+                credit_total = account_balances.credit_total + EXCLUDED.credit_total,
+                updated_at = now()
+            """;
+
+    private static final String CURRENT_SQL = """
+            SELECT currency, SUM(debit_total) AS debits, SUM(credit_total) AS credits
+            FROM account_balances
+            WHERE account_key = ?
+            GROUP BY currency
+            ORDER BY currency
+            """;
+
+    // nearest snapshot <= asOf per currency, plus the entries after it (ix_ledger_entries_account_key_created_at)
+    private static final String AS_OF_SQL = """
+            WITH snap AS (
+                SELECT DISTINCT ON (currency) currency, as_of, debit_total, credit_total
+                FROM account_balance_snapshots
+                WHERE account_key = ? AND as_of <= ?
+                ORDER BY currency, as_of DESC
+            ), tail AS (
+                SELECT e.currency,
+                       COALESCE(SUM(e.amount) FILTER (WHERE e.entry_type = 'DEBIT'), 0) AS debits,
+                       COALESCE(SUM(e.amount) FILTER (WHERE e.entry_type = 'CREDIT'), 0) AS credits
+                FROM ledger_entries e
+                LEFT JOIN snap s ON s.currency = e.currency
+                WHERE e.account_key = ?
+                  AND e.created_at <= ?
+                  AND e.created_at > COALESCE(s.as_of, '-infinity'::timestamptz)
+                GROUP BY e.currency
+            )
+            SELECT COALESCE(s.currency, t.currency) AS currency,
+                   COALESCE(s.debit_total, 0) + COALESCE(t.debits, 0) AS debits,
+                   COALESCE(s.credit_total, 0) + COALESCE(t.credits, 0) AS credits
+            FROM snap s
+            FULL JOIN tail t ON t.currency = s.currency
+            ORDER BY 1
+            """;
+
+    // one snapshot per account touched since the previous run, built on that account's latest snapshot
+    private static final String SNAPSHOT_SQL = """
+            WITH delta AS (
+                SELECT account_key, currency,
+                       COALESCE(SUM(amount) FILTER (WHERE entry_type = 'DEBIT'), 0) AS debits,
+                       COALESCE(SUM(amount) FILTER (WHERE entry_type = 'CREDIT'), 0) AS credits
+                FROM ledger_entries
+                WHERE created_at > ? AND created_at <= ?
+                GROUP BY account_key, currency
+            )
+            INSERT INTO account_balance_snapshots (account_key, currency, as_of, debit_total, credit_total)
+            SELECT d.account_key, d.currency, ?,
+                   COALESCE(s.debit_total, 0) + d.debits,
+                   COALESCE(s.credit_total, 0) + d.credits
+            FROM delta d
+            LEFT JOIN LATERAL (
+                SELECT debit_total, credit_total
+                FROM account_balance_snapshots
+                WHERE account_key = d.account_key AND currency = d.currency
+                ORDER BY as_of DESC
+                LIMIT 1
+            ) s ON true
+            ON CONFLICT (account_key, currency, as_of) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AccountBalanceJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+     * Adds ledger entries to their stripes (by payment id) in one JDBC batch.
+     * Entries are summed per stripe first (a stripe appears at most once per batch),
+     * then applied in key order so concurrent postings lock stripes in the same order.
+     */
+    public void applyAll(List<LedgerEntryEntity> entries, int stripes) {
+        apply(entries, e -> stripe(e, stripes));
+    }
+
+    /*
+     * Adds a whole journal to one stripe: a single row per (account, currency), whatever
+     * the number of payments. Bulk postings use this so that concurrent chunks on
+     * different stripes never wait on each other's balance rows.
+     */
+    public void applyAllToStripe(List<LedgerEntryEntity> entries, int stripe) {
+        apply(entries, e -> stripe);
+    }
+
+    private void apply(List<LedgerEntryEntity> entries, ToIntFunction<LedgerEntryEntity> stripeOf) {
+        Map<StripeKey, long[]> totals = new TreeMap<>(STRIPE_ORDER);
+        for (LedgerEntryEntity e : entries) {
+            long[] t = totals.computeIfAbsent(
+                    new StripeKey(e.getAccountKey(), e.getCurrency(), stripeOf.applyAsInt(e)),
+                    k -> new long[2]);
+            t[e.getEntryType() == LedgerEntryType.DEBIT ? 0 : 1] += e.getAmount();
+        }
+        List<Map.Entry<StripeKey, long[]>> ordered = List.copyOf(totals.entrySet());
+
+        jdbcTemplate.batchUpdate(APPLY_SQL, ordered, ordered.size(), (ps, row) -> {
+            ps.setString(1, row.getKey().accountKey());
+            ps.setString(2, row.getKey().currency());
+            ps.setShort(3, (short) row.getKey().stripe());
+            ps.setLong(4, row.getValue()[0]);
+            ps.setLong(5, row.getValue()[1]);
+        });
+    }
+
+    public List<BalanceRow> findCurrent(String accountKey) {
+        return jdbcTemplate.query(CURRENT_SQL, (rs, i) -> new BalanceRow(
+                rs.getString("currency"),
+                rs.getLong("debits"),
+                rs.getLong("credits")
+        ), accountKey);
+    }
+
+    public List<BalanceRow> findAsOf(String accountKey, Instant asOf) {
+        Timestamp ts = Timestamp.from(asOf);
+        return jdbcTemplate.query(AS_OF_SQL, (rs, i) -> new BalanceRow(
+                rs.getString("currency"),
+                rs.getLong("debits"),
+                rs.getLong("credits")
+        ), accountKey, ts, accountKey, ts);
+    }
+
+    public Instant findLatestSnapshotAsOf() {
+        Timestamp ts = jdbcTemplate.queryForObject(
+                "SELECT max(as_of) FROM account_balance_snapshots", Timestamp.class);
+        return ts == null ? null : ts.toInstant();
+    }
+
+    public int snapshot(Instant from, Instant asOf) {
+        Timestamp fromTs = Timestamp.from(from);
+        Timestamp asOfTs = Timestamp.from(asOf);
+        return jdbcTemplate.update(SNAPSHOT_SQL, fromTs, asOfTs, asOfTs);
+    }
+
+    public boolean tryLock(long lockId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockId));
+    }
+
+    private static int stripe(LedgerEntryEntity e, int stripes) {
+        return Math.floorMod(e.getPaymentId().hashCode(), stripes);
+    }
+
+    public record BalanceRow(String currency, long debits, long credits) {
+    }
+
+    private record StripeKey(String accountKey, String currency, int stripe) {
+    }
+
+    private static final Comparator<StripeKey> STRIPE_ORDER = Comparator.comparing(StripeKey::accountKey)
+            .thenComparing(StripeKey::currency)
+            .thenComparingInt(StripeKey::stripe);
+}
@@ -0,0 +1,92 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Housekeeping on idempotency_keys. Every statement handles one small batch in
+ * its own short transaction and skips rows locked by in-flight requests
+ * (FOR UPDATE SKIP LOCKED), so it never waits on, or blocks, the create path.
+ */
+@Repository
+public class IdempotencyKeyJdbcRepository {
+    // oldest first, served by ix_idempotency_keys_created_at
+    private static final String PURGE_SQL = """
+            WITH expired AS (
+                SELECT id
+                FROM idempotency_keys
+                WHERE created_at < ?
+                  AND status <> 'IN_PROGRESS'
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            DELETE FROM idempotency_keys k
+            USING expired e
+            WHERE k.id = e.id
+            """;
+
+    // the payment was created: complete the key with the response createPayment would have stored
+    private static final String RECOVER_SQL = """
+            WITH stale AS (
+                SELECT k.id, p.payment_id, p.status, p.amount, p.currency, p.created_at
+                FROM idempotency_keys k
+                JOIN payments p ON p.idempotency_key = k.idempotency_key
+                WHERE k.status = 'IN_PROGRESS'
+                  AND k.updated_at < ?
+                ORDER BY k.updated_at
+                LIMIT ?
+                FOR UPDATE OF k SKIP LOCKED
+            )
+            UPDATE idempotency_keys k
+            SET status = 'SUCCEEDED',
+                response_code = 201,
+                response_body = jsonb_build_object(
+                        'paymentId', s.payment_id,
+                        'stauts', s.status,
+                        'amount', s.amount,
+                        'currency', s.currency,
+                        'createdAt', to_char(s.created_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"')),
+                updated_at = now()
+            FROM stale s
+            WHERE k.id = s.id
+            """;
+
+    // nothing was created: drop the key so the client's retry runs the request again
+    private static final String RELEASE_SQL = """
+            WITH stale AS (
+                SELECT k.id
+                FROM idempotency_keys k
+                WHERE k.status = 'IN_PROGRESS'
+                  AND k.updated_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.idempotency_key = k.idempotency_key)
+                ORDER BY k.updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            DELETE FROM idempotency_keys k
+            USING stale s
+            WHERE k.id = s.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public int purgeCreatedBefore(Instant cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(cutoff), limit);
+    }
+
+    public int recoverStaleInProgress(Instant staleBefore, int limit) {
+        return jdbcTemplate.update(RECOVER_SQL, Timestamp.from(staleBefore), limit);
+    }
+
+    public int releaseStaleInProgress(Instant staleBefore, int limit) {
+        return jdbcTemplate.update(RELEASE_SQL, Timestamp.from(staleBefore), limit);
+    }
+}
@@ -0,0 +1,125 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * payment_outbox backlog and shard claims (see V10__payment_outbox.sql).
+ * Claim, read and delete are meant to run in one transaction per batch.
+ */
+@Repository
+public class OutboxJdbcRepository {
+    /*
+     * Least recently claimed shard that has pending rows. The row lock is the shard's
+     * ownership until commit; shards held by other workers are skipped, never waited on.
+     */
+    private static final String CLAIM_SHARD_SQL = """
+            WITH picked AS (
+                SELECT s.shard
+                FROM payment_outbox_shards s
+                WHERE EXISTS (SELECT 1 FROM payment_outbox o WHERE o.shard = s.shard)
+                ORDER BY s.claimed_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE payment_outbox_shards s
+            SET claimed_at = now()
+            FROM picked
+            WHERE s.shard = picked.shard
+            RETURNING s.shard
+            """;
+
+    private static final String FIND_BATCH_SQL = """
+            SELECT id, event_id, payment_id, event_type, from_status, to_status, payload, created_at, enqueued_at
+            FROM payment_outbox
+            WHERE shard = ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM payment_outbox
+            WHERE id = ANY(?)
+            RETURNING EXTRACT(EPOCH FROM clock_timestamp() - enqueued_at) AS age
+            """;
+
+    private static final RowMapper<Duration> AGE_MAPPER =
+            (rs, i) -> Duration.ofNanos((long) (rs.getDouble("age") * 1e9));
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, i) -> new OutboxRow(
+            rs.getLong("id"),
+            rs.getLong("event_id"),
+            rs.getString("payment_id"),
+            rs.getString("event_type"),
+            rs.getString("from_status"),
+            rs.getString("to_status"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("enqueued_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+     * Switches the outbox trigger on (V12__payment_outbox_switch.sql); no-op once it is.
+     */
+    public boolean enableEnqueue() {
+        return jdbcTemplate.update(
+                "UPDATE payment_outbox_state SET enabled = true, enabled_at = clock_timestamp() WHERE NOT enabled") > 0;
+    }
+
+    public Optional<Integer> claimShard() {
+        return jdbcTemplate.query(CLAIM_SHARD_SQL, (rs, i) -> rs.getInt("shard")).stream().findFirst();
+    }
+
+    public List<OutboxRow> findBatch(int shard, int limit) {
+        return jdbcTemplate.query(FIND_BATCH_SQL, ROW_MAPPER, shard, limit);
+    }
+
+    /*
+     * By id, not by range: a transaction that took a lower id may still commit after the batch was read.
+     * Returns the age of each deleted row on the database clock, the clock enqueued_at was taken from.
+     */
+    public List<Duration> delete(List<OutboxRow> rows) {
+        Long[] ids = rows.stream().map(OutboxRow::id).toArray(Long[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            return ps;
+        }, AGE_MAPPER);
+    }
+
+    public Optional<Duration> oldestPendingAge() {
+        return jdbcTemplate.query(
+                        "SELECT EXTRACT(EPOCH FROM clock_timestamp() - enqueued_at) AS age FROM payment_outbox ORDER BY id LIMIT 1",
+                        AGE_MAPPER)
+                .stream().findFirst();
+    }
+
+    /*
+     * payload: the event's JSON document as stored (null for events without one).
+     */
+    public record OutboxRow(
+            long id,
+            long eventId,
+            String paymentId,
+            String eventType,
+            String fromStatus,
+            String toStatus,
+            String payload,
+            Instant createdAt,
+            Instant enqueuedAt
+    ) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DDL for range partitions. Table and partition names are built by the caller
+ * from constants, never from user input.
+ */
+@Repository
+public class PartitionJdbcRepository {
+    // the bounds are rendered by Postgres and parsed back by Postgres, so the session time zone does not matter
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname AS name,
+                   (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'FROM \\(''([^'']+)''\\)'))[1]::timestamptz AS lower_bound,
+                   (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1]::timestamptz AS upper_bound
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass(?)
+            ORDER BY upper_bound
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PartitionRow> findPartitions(String parent) {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, i) -> new PartitionRow(
+                rs.getString("name"),
+                instant(rs.getTimestamp("lower_bound")),
+                instant(rs.getTimestamp("upper_bound"))
+        ), parent);
+    }
+
+    public void createPartition(String parent, String name, Instant from, Instant to) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + parent
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    /*
+     * DETACH ... CONCURRENTLY cannot run inside a transaction block: call without one.
+     */
+    public void detachAndDrop(String parent, String name) {
+        jdbcTemplate.execute("ALTER TABLE " + parent + " DETACH PARTITION " + name + " CONCURRENTLY");
+        jdbcTemplate.execute("DROP TABLE " + name);
+    }
+
+    public boolean tryLock(long lockId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockId));
+    }
+
+    private static Instant instant(Timestamp ts) {
+        return ts == null ? null : ts.toInstant();
+    }
+
+    /*
+     * lowerBound: inclusive start of the partition's range (null for MINVALUE / DEFAULT).
+     * upperBound: exclusive end of the partition's range (null for MAXVALUE / DEFAULT).
+     */
+    public record PartitionRow(String name, Instant lowerBound, Instant upperBound) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.domain.model.PaymentEventType;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.persistence.entity.PaymentEventEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to payment_events.
+ *
+ * Events are append-only and never read back in the transaction that writes
+ * them, so they skip the persistence context: one JDBC batch per call, which
+ * the driver rewrites into a multi-row INSERT (reWriteBatchedInserts).
+ * History reads project rows directly instead of loading entities.
+ */
+@Repository
+public class PaymentEventJdbcRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO payment_events (payment_id, event_type, from_status, to_status, payload, created_at, payment_version)
+            VALUES (?, ?, ?, ?, CAST(? AS jsonb), ?, ?)
+            """;
+
+    // keyset on (created_at, id); created_at >= ? keeps the bound inside ix_payment_events_payment_id_created_at
+    private static final String PAGE_SQL = """
+            SELECT id, event_type, from_status, to_status, payload::text AS payload, created_at
+            FROM payment_events
+            WHERE payment_id = ?
+              AND created_at >= ?
+              AND (created_at > ? OR id > ?)
+            ORDER BY created_at, id
+            LIMIT ?
+            """;
+
+    private static final String HISTORY_SQL = """
+            SELECT id, event_type, from_status, to_status, payload::text AS payload, created_at
+            FROM payment_events
+            WHERE payment_id = ?
+            ORDER BY created_at, id
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<PaymentEventEntity> events) {
+        if (events.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.getPaymentId());
+            ps.setString(2, e.getEventType().name());
+            ps.setString(3, name(e.getFromStatus()));
+            ps.setString(4, name(e.getToStatus()));
+            ps.setString(5, e.getPayload());
+            ps.setTimestamp(6, Timestamp.from(e.getCreatedAt()));
+            ps.setObject(7, e.getPaymentVersion(), Types.BIGINT);
+        });
+    }
+
+    /*
+     * One page after (afterCreatedAt, afterId); pass Instant.MIN-like bounds for the first page.
+     */
+    public List<EventRow> findPage(String paymentId, Instant afterCreatedAt, long afterId, int limit) {
+        Timestamp after = Timestamp.from(afterCreatedAt);
+        return jdbcTemplate.query(PAGE_SQL, EVENT_ROW, paymentId, after, after, afterId, limit);
+    }
+
+    /*
+     * Full history through a server-side cursor (fetch size rows at a time).
+     * Must run inside a transaction, otherwise the driver reads everything at once.
+     */
+    public void stream(String paymentId, Consumer<EventRow> consumer) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(HISTORY_SQL);
+                    ps.setFetchSize(STREAM_FETCH_SIZE);
+                    ps.setString(1, paymentId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(EVENT_ROW.mapRow(rs, 0))
+        );
+    }
+
+    private static final RowMapper<EventRow> EVENT_ROW = (rs, i) -> new EventRow(
+            rs.getLong("id"),
+            PaymentEventType.valueOf(rs.getString("event_type")),
+            status(rs.getString("from_status")),
+            status(rs.getString("to_status")),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toInstant()
+    );
+
+    private static PaymentStatus status(String name) {
+        return name == null ? null : PaymentStatus.valueOf(name);
+    }
+
+    private static String name(PaymentStatus status) {
+        return status == null ? null : status.name();
+    }
+
+    public record EventRow(
+            long id,
+            PaymentEventType eventType,
+            PaymentStatus fromStatus,
+            PaymentStatus toStatus,
+            String payload,
+            Instant createdAt
+    ) {
+    }
+}
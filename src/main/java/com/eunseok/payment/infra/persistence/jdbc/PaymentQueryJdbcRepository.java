@@ -0,0 +1,91 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only payment listing, projected straight into {@link PaymentResponse}
+ * (nothing enters the persistence context).
+ *
+ * Pages are keyset ranges on ix_payments_status_created_at: status is the
+ * equality prefix and created_at the range, with payment_id as tie-breaker,
+ * so every page is an index range scan no matter how deep it is.
+ */
+@Repository
+public class PaymentQueryJdbcRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentQueryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+     * after: (created_at, payment_id) of the last row of the previous page, or null for the first page.
+     */
+    public List<PaymentResponse> findPage(
+            PaymentStatus status,
+            Instant from,
+            Instant to,
+            String currency,
+            Instant afterCreatedAt,
+            String afterPaymentId,
+            int limit
+    ) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT payment_id, status, amount, currency, created_at, updated_at
+                FROM payments
+                WHERE status = ?
+                  AND created_at >= ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(status.name());
+
+        boolean hasCursor = afterCreatedAt != null && !afterCreatedAt.isBefore(from);
+        args.add(Timestamp.from(hasCursor ? afterCreatedAt : from));
+        if (hasCursor) {
+            sql.append("  AND (created_at > ? OR payment_id > ?)\n");
+            args.add(Timestamp.from(afterCreatedAt));
+            args.add(afterPaymentId);
+        }
+        if (to != null) {
+            sql.append("  AND created_at < ?\n");
+            args.add(Timestamp.from(to));
+        }
+        if (currency != null) {
+            sql.append("  AND currency = ?\n");
+            args.add(currency);
+        }
+        sql.append("ORDER BY created_at, payment_id\nLIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql.toString());
+                    ps.setFetchSize(limit);
+                    for (int i = 0; i < args.size(); i++) {
+                        ps.setObject(i + 1, args.get(i));
+                    }
+                    return ps;
+                },
+                PAYMENT_RESPONSE
+        );
+    }
+
+    private static final RowMapper<PaymentResponse> PAYMENT_RESPONSE = (rs, i) -> new PaymentResponse(
+            rs.getString("payment_id"),
+            PaymentStatus.valueOf(rs.getString("status")),
+            rs.getLong("amount"),
+            rs.getString("currency"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant()
+    );
+}
@@ -0,0 +1,109 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Payment status transitions as one statement (one round trip).
+ *
+ * The row is read, conditionally updated and its STATUS_CHANGED event inserted
+ * by a single data-modifying CTE. The update only applies while the version is
+ * still the one that was read and the status read is an allowed source, so a
+ * concurrent transition makes it match zero rows instead of overwriting.
+ *
+ * The result always describes the row as it is after the statement:
+ * empty when the payment does not exist, applied = false when nothing changed.
+ */
+@Repository
+public class PaymentTransitionJdbcRepository {
+    private static final String TRANSITION_SQL = """
+            WITH target AS (
+                SELECT id, payment_id, payment_method, amount, currency, status, version, created_at, updated_at
+                FROM payments
+                WHERE payment_id = ?
+            ),
+            updated AS (
+                UPDATE payments p
+                SET status = ?, updated_at = ?, version = p.version + 1
+                FROM target t
+                WHERE p.id = t.id
+                  AND p.version = t.version
+                  AND t.status = ANY (CAST(? AS varchar[]))
+                RETURNING p.id, p.payment_id, t.status AS from_status, p.status, p.version, p.updated_at
+            ),
+            event AS (
+                INSERT INTO payment_events (payment_id, event_type, from_status, to_status, payload, created_at, payment_version)
+                SELECT payment_id, 'STATUS_CHANGED', from_status, status, CAST(? AS jsonb), updated_at, version
+                FROM updated
+            )
+            SELECT t.payment_id, t.payment_method, t.amount, t.currency, t.created_at,
+                   t.status AS previous_status,
+                   COALESCE(u.status, t.status) AS status,
+                   COALESCE(u.version, t.version) AS version,
+                   COALESCE(u.updated_at, t.updated_at) AS updated_at,
+                   u.id IS NOT NULL AS applied
+            FROM target t
+            LEFT JOIN updated u ON u.id = t.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentTransitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<TransitionRow> transition(
+            String paymentId,
+            PaymentStatus target,
+            Set<PaymentStatus> sources,
+            String payloadJson,
+            Instant at
+    ) {
+        List<TransitionRow> rows = jdbcTemplate.query(
+                TRANSITION_SQL,
+                TRANSITION_ROW,
+                paymentId,
+                target.name(),
+                Timestamp.from(at),
+                sources.stream().map(Enum::name).collect(Collectors.joining(",", "{", "}")),
+                payloadJson
+        );
+        return rows.stream().findFirst();
+    }
+
+    private static final RowMapper<TransitionRow> TRANSITION_ROW = (rs, i) -> new TransitionRow(
+            rs.getString("payment_id"),
+            rs.getString("payment_method"),
+            rs.getLong("amount"),
+            rs.getString("currency"),
+            PaymentStatus.valueOf(rs.getString("previous_status")),
+            PaymentStatus.valueOf(rs.getString("status")),
+            rs.getLong("version"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getBoolean("applied")
+    );
+
+    public record TransitionRow(
+            String paymentId,
+            String paymentMethod,
+            long amount,
+            String currency,
+            PaymentStatus previousStatus,
+            PaymentStatus status,
+            long version,
+            Instant createdAt,
+            Instant updatedAt,
+            boolean applied
+    ) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Read side of the payments / payment_events reconciliation.
+ *
+ * Shards are contiguous payment_id ranges, so every page is an index range scan
+ * on payments (unique payment_id) and on payment_events
+ * (ix_payment_events_payment_id_payment_version, merged across partitions).
+ */
+@Repository
+public class ReconciliationJdbcRepository {
+    // boundaries from a sample of ~100 rows per shard; reltuples is -1 / 0 before the first ANALYZE
+    private static final String BOUNDARIES_SQL = """
+            SELECT percentile_disc(CAST(? AS float8[])) WITHIN GROUP (ORDER BY payment_id)
+            FROM payments TABLESAMPLE SYSTEM (?)
+            """;
+
+    private static final String PAGE_SQL = """
+            SELECT payment_id, status, created_at
+            FROM payments
+            WHERE payment_id > ?
+              AND (CAST(? AS varchar) IS NULL OR payment_id <= ?)
+            ORDER BY payment_id
+            LIMIT ?
+            """;
+
+    private static final String HISTORY_SQL = """
+            SELECT payment_id, id, from_status, to_status
+            FROM payment_events
+            WHERE payment_id >= ?
+              AND payment_id <= ?
+              AND to_status IS NOT NULL
+            ORDER BY payment_id, payment_version NULLS FIRST, created_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconciliationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /*
+     * Up to shards - 1 ascending, distinct upper bounds; fewer on small or skewed tables.
+     */
+    public List<String> shardBoundaries(int shards) {
+        if (shards <= 1) return List.of();
+
+        Double reltuples = jdbcTemplate.queryForObject(
+                "SELECT reltuples::float8 FROM pg_class WHERE oid = 'payments'::regclass", Double.class);
+        double rows = reltuples == null ? 0 : reltuples;
+        double percent = rows <= 0 ? 100 : Math.min(100, shards * 100 * 100 / rows);
+
+        String fractions = IntStream.range(1, shards)
+                .mapToObj(i -> Double.toString((double) i / shards))
+                .collect(Collectors.joining(",", "{", "}"));
+
+        List<String> boundaries = jdbcTemplate.query(BOUNDARIES_SQL, (rs, i) -> {
+            Array array = rs.getArray(1);
+            return array == null ? List.<String>of() : Arrays.asList((String[]) array.getArray());
+        }, fractions, percent).getFirst();
+
+        List<String> distinct = new ArrayList<>();
+        for (String boundary : boundaries) {
+            if (boundary != null && (distinct.isEmpty() || !Objects.equals(distinct.getLast(), boundary))) {
+                distinct.add(boundary);
+            }
+        }
+        return distinct;
+    }
+
+    /*
+     * Next page of the shard (after, upTo]; upTo == null means unbounded.
+     */
+    public List<PaymentStatusRow> findPage(String after, String upTo, int limit) {
+        return jdbcTemplate.query(PAGE_SQL, (rs, i) -> new PaymentStatusRow(
+                rs.getString("payment_id"),
+                PaymentStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toInstant()
+        ), after, upTo, upTo, limit);
+    }
+
+    /*
+     * Status events of the payments in [first, last], per payment in history order
+     * (payment_version; rows from before V11 have none and come first, by created_at, id),
+     * through a server-side cursor. Must run inside a transaction.
+     */
+    public void streamHistory(String first, String last, int fetchSize, Consumer<HistoryRow> consumer) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(HISTORY_SQL);
+                    ps.setFetchSize(fetchSize);
+                    ps.setString(1, first);
+                    ps.setString(2, last);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(new HistoryRow(
+                        rs.getString("payment_id"),
+                        rs.getLong("id"),
+                        status(rs.getString("from_status")),
+                        PaymentStatus.valueOf(rs.getString("to_status"))
+                ))
+        );
+    }
+
+    private static PaymentStatus status(String name) {
+        return name == null ? null : PaymentStatus.valueOf(name);
+    }
+
+    public record PaymentStatusRow(String paymentId, PaymentStatus status, Instant createdAt) {
+    }
+
+    public record HistoryRow(String paymentId, long eventId, PaymentStatus fromStatus, PaymentStatus toStatus) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.eunseok.payment.infra.persistence.jdbc;
+
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.domain.model.SettlementRunStatus;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bulk settlement: set-based chunk transitions and settlement_runs bookkeeping.
+ */
+@Repository
+public class SettlementJdbcRepository {
+    /*
+     * One chunk: oldest AUTHORIZED payments before the cutoff (ix_payments_status_created_at),
+     * locked with SKIP LOCKED so parallel workers and single-payment calls never wait on each other,
+     * settled and given their STATUS_CHANGED events in the same statement.
+     * Bumping version makes racing single transitions conflict and retry (see PaymentTransitionExecutor).
+     */
+    private static final String SETTLE_CHUNK_SQL = """
+            WITH picked AS (
+                SELECT id
+                FROM payments
+                WHERE status = 'AUTHORIZED'
+                  AND created_at < ?
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ),
+            updated AS (
+                UPDATE payments p
+                SET status = 'SETTLED', updated_at = ?, version = p.version + 1
+                FROM picked
+                WHERE p.id = picked.id
+                RETURNING p.payment_id, p.payment_method, p.amount, p.currency, p.version, p.created_at, p.updated_at
+            ),
+            event AS (
+                INSERT INTO payment_events (payment_id, event_type, from_status, to_status, payload, created_at, payment_version)
+                SELECT payment_id, 'STATUS_CHANGED', 'AUTHORIZED', 'SETTLED', CAST(? AS jsonb), updated_at, version
+                FROM updated
+            )
+            SELECT payment_id, payment_method, amount, currency, version, created_at, updated_at
+            FROM updated
+            """;
+
+    private static final String RUN_COLUMNS = """
+            run_id, status, created_before, chunk_size, workers, settled_count, chunk_count,
+            last_error, started_at, updated_at, finished_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SettlementJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<TransitionRow> settleChunk(Instant createdBefore, int limit, String payloadJson, Instant at) {
+        return jdbcTemplate.query(SETTLE_CHUNK_SQL, (rs, i) -> new TransitionRow(
+                rs.getString("payment_id"),
+                rs.getString("payment_method"),
+                rs.getLong("amount"),
+                rs.getString("currency"),
+                PaymentStatus.AUTHORIZED,
+                PaymentStatus.SETTLED,
+                rs.getLong("version"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant(),
+                true
+        ), Timestamp.from(createdBefore), limit, Timestamp.from(at), payloadJson);
+    }
+
+    public void insertRun(String runId, Instant createdBefore, int chunkSize, int workers) {
+        jdbcTemplate.update("""
+                INSERT INTO settlement_runs (run_id, status, created_before, chunk_size, workers)
+                VALUES (?, 'RUNNING', ?, ?, ?)
+                """, runId, Timestamp.from(createdBefore), chunkSize, workers);
+    }
+
+    public Optional<SettlementRunRow> findRun(String runId) {
+        return jdbcTemplate.query("SELECT " + RUN_COLUMNS + " FROM settlement_runs WHERE run_id = ?",
+                SETTLEMENT_RUN_ROW, runId).stream().findFirst();
+    }
+
+    /*
+     * Claims runs to resume: INTERRUPTED ones (their process shut down) and RUNNING ones nobody
+     * has made progress on since staleBefore (their process died). The claim sets RUNNING and a
+     * fresh updated_at in the same statement, so a node that races for the same row re-checks it
+     * after this commit and no longer matches.
+     */
+    public List<SettlementRunRow> claimResumable(Instant staleBefore) {
+        return jdbcTemplate.query("""
+                UPDATE settlement_runs
+                SET status = 'RUNNING', updated_at = now()
+                WHERE status = 'INTERRUPTED' OR (status = 'RUNNING' AND updated_at < ?)
+                RETURNING
+                """ + RUN_COLUMNS, SETTLEMENT_RUN_ROW, Timestamp.from(staleBefore));
+    }
+
+    /*
+     * Workers stopped on shutdown: resumable on the next startup without waiting for the lease.
+     */
+    public void interrupt(String runId) {
+        jdbcTemplate.update("""
+                UPDATE settlement_runs
+                SET status = 'INTERRUPTED', updated_at = now()
+                WHERE run_id = ? AND status = 'RUNNING'
+                """, runId);
+    }
+
+    /*
+     * Progress of a committed chunk; a single-row autocommit update, so the run row is
+     * locked for one statement instead of a whole chunk transaction.
+     */
+    public void recordChunk(String runId, int settled) {
+        jdbcTemplate.update("""
+                UPDATE settlement_runs
+                SET settled_count = settled_count + ?, chunk_count = chunk_count + 1, updated_at = now()
+                WHERE run_id = ?
+                """, settled, runId);
+    }
+
+    public boolean markRunning(String runId) {
+        return jdbcTemplate.update("""
+                UPDATE settlement_runs
+                SET status = 'RUNNING', last_error = NULL, finished_at = NULL, updated_at = now()
+                WHERE run_id = ? AND status <> 'COMPLETED'
+                """, runId) == 1;
+    }
+
+    public void finish(String runId, SettlementRunStatus status, String error) {
+        jdbcTemplate.update("""
+                UPDATE settlement_runs
+                SET status = ?, last_error = ?, finished_at = now(), updated_at = now()
+                WHERE run_id = ? AND status = 'RUNNING'
+                """, status.name(), error, runId);
+    }
+
+    private static final RowMapper<SettlementRunRow> SETTLEMENT_RUN_ROW = (rs, i) -> new SettlementRunRow(
+            rs.getString("run_id"),
+            SettlementRunStatus.valueOf(rs.getString("status")),
+            instant(rs, "created_before"),
+            rs.getInt("chunk_size"),
+            rs.getInt("workers"),
+            rs.getLong("settled_count"),
+            rs.getLong("chunk_count"),
+            rs.getString("last_error"),
+            instant(rs, "started_at"),
+            instant(rs, "updated_at"),
+            instant(rs, "finished_at")
+    );
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toInstant();
+    }
+
+    public record SettlementRunRow(
+            String runId,
+            SettlementRunStatus status,
+            Instant createdBefore,
+            int chunkSize,
+            int workers,
+            long settledCount,
+            long chunkCount,
+            String lastError,
+            Instant startedAt,
+            Instant updatedAt,
+            Instant finishedAt
+    ) {
+    }
+}
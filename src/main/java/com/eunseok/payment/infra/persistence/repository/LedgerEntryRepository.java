@@ -0,0 +1,10 @@
+package com.eunseok.payment.infra.persistence.repository;
+
+import com.eunseok.payment.infra.persistence.entity.LedgerEntryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntryEntity, Long> {
+    List<LedgerEntryEntity> findByPaymentId(String paymentId);
+}
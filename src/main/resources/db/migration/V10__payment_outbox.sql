@@ -0,0 +1,58 @@
+-- V10__payment_outbox.sql
+-- Transactional outbox for payment_events: every inserted event is copied into
+-- payment_outbox by a trigger, in the inserting transaction, and relayed to
+-- downstream consumers by OutboxRelay.
+--
+-- A trigger (like V9) covers every writer of payment_events: the event
+-- appender, the single-statement transitions and bulk settlement chunks.
+--
+-- Per-payment ordering: rows are spread over a fixed number of shards by a
+-- hash of payment_id, so all events of one payment land in the same shard.
+-- A relay worker claims a whole shard (FOR UPDATE SKIP LOCKED on
+-- payment_outbox_shards) for the duration of one batch transaction and
+-- publishes the shard's rows in id order. Workers never block each other and
+-- never relay the same shard concurrently.
+--
+-- Relayed rows are deleted in the batch transaction; the table only holds the
+-- backlog. Changing the shard count means re-hashing pending rows: drain the
+-- outbox first.
+
+CREATE TABLE payment_outbox (
+                                id BIGSERIAL PRIMARY KEY,
+                                shard SMALLINT NOT NULL,
+                                event_id BIGINT NOT NULL,
+                                payment_id VARCHAR(64) NOT NULL,
+                                event_type VARCHAR(64) NOT NULL,
+                                from_status VARCHAR(32),
+                                to_status VARCHAR(32),
+                                payload JSONB,
+                                created_at TIMESTAMPTZ NOT NULL,
+                                enqueued_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX ix_payment_outbox_shard_id ON payment_outbox (shard, id);
+
+CREATE TABLE payment_outbox_shards (
+                                       shard SMALLINT PRIMARY KEY,
+                                       claimed_at TIMESTAMPTZ NOT NULL DEFAULT '-infinity'
+);
+
+INSERT INTO payment_outbox_shards (shard)
+SELECT generate_series(0, 15);
+
+-- hashtext() is signed: shift into [0, 2^32) before taking the modulus
+CREATE FUNCTION enqueue_payment_event() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    INSERT INTO payment_outbox (shard, event_id, payment_id, event_type, from_status, to_status, payload, created_at)
+    VALUES (mod(hashtext(NEW.payment_id)::bigint + 2147483648, 16),
+            NEW.id, NEW.payment_id, NEW.event_type, NEW.from_status, NEW.to_status, NEW.payload, NEW.created_at);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_payment_events_outbox
+    AFTER INSERT ON payment_events
+    FOR EACH ROW
+    EXECUTE FUNCTION enqueue_payment_event();
@@ -0,0 +1,16 @@
+-- V11__payment_events_payment_version.sql
+-- Every payment_events row records payments.version as of the change it
+-- describes: 0 for PAYMENT_CREATED, the bumped version for a transition.
+--
+-- Transitions of one payment are serialized by the version check, so this is
+-- a per-payment order that does not depend on any clock. created_at is the
+-- application node's time (it is payments.updated_at) and ids are allocated
+-- in pooled blocks per node, so neither orders a payment's events across nodes.
+--
+-- Rows written before this migration keep payment_version NULL; readers order
+-- them first, by created_at and id as before.
+
+ALTER TABLE payment_events ADD COLUMN payment_version BIGINT;
+
+-- reconciliation reads the history of a payment_id range in this order
+CREATE INDEX ix_payment_events_payment_id_payment_version ON payment_events (payment_id, payment_version NULLS FIRST);
@@ -0,0 +1,34 @@
+-- V12__payment_outbox_switch.sql
+-- The outbox trigger (V10) only enqueues once the outbox has been switched on.
+--
+-- The relay is off by default (payment.outbox.enabled=false). With an
+-- unconditional trigger, every create and transition paid for an outbox row
+-- that nothing drained, and the table grew forever. Now the first node that
+-- starts the relay switches the outbox on (OutboxRelay.start); events written
+-- before that are not enqueued.
+--
+-- Switching it off again is a manual step, after the last relay is stopped:
+--   UPDATE payment_outbox_state SET enabled = false, enabled_at = NULL;
+--   TRUNCATE payment_outbox;
+
+CREATE TABLE payment_outbox_state (
+                                      singleton BOOLEAN PRIMARY KEY DEFAULT true CHECK (singleton),
+                                      enabled BOOLEAN NOT NULL DEFAULT false,
+                                      enabled_at TIMESTAMPTZ
+);
+
+INSERT INTO payment_outbox_state DEFAULT VALUES;
+
+CREATE OR REPLACE FUNCTION enqueue_payment_event() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF NOT (SELECT enabled FROM payment_outbox_state) THEN
+        RETURN NULL;
+    END IF;
+    INSERT INTO payment_outbox (shard, event_id, payment_id, event_type, from_status, to_status, payload, created_at)
+    VALUES (mod(hashtext(NEW.payment_id)::bigint + 2147483648, 16),
+            NEW.id, NEW.payment_id, NEW.event_type, NEW.from_status, NEW.to_status, NEW.payload, NEW.created_at);
+    RETURN NULL;
+END
+$$;
@@ -0,0 +1,10 @@
+-- V2__pooled_id_sequences.sql
+-- Switch entity ids from IDENTITY to pooled sequences so Hibernate can batch inserts.
+--
+-- The BIGSERIAL sequences keep serving as column defaults; stepping them by 50
+-- lets Hibernate's pooled optimizer reserve a block of ids per nextval() call.
+-- Keep INCREMENT BY in sync with allocationSize on the entities.
+
+ALTER SEQUENCE idempotency_keys_id_seq INCREMENT BY 50;
+ALTER SEQUENCE payments_id_seq INCREMENT BY 50;
+ALTER SEQUENCE payment_events_id_seq INCREMENT BY 50;
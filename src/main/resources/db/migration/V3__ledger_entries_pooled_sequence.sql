@@ -0,0 +1,4 @@
+-- V3__ledger_entries_pooled_sequence.sql
+-- Ledger postings are inserted in batches; same pooled-sequence setup as V2.
+
+ALTER SEQUENCE ledger_entries_id_seq INCREMENT BY 50;
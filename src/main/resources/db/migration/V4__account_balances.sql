@@ -0,0 +1,34 @@
+-- V4__account_balances.sql
+-- Balance projection over ledger_entries
+
+-- 1) account_balances: running totals per account, split into stripes.
+--    A posting updates one stripe (picked from the payment id), so concurrent
+--    postings to a hot merchant account do not queue on a single row.
+--    Current balance = sum over all stripes.
+CREATE TABLE account_balances (
+                                  account_key VARCHAR(128) NOT NULL,
+                                  currency CHAR(3) NOT NULL,
+                                  stripe SMALLINT NOT NULL,
+                                  debit_total BIGINT NOT NULL DEFAULT 0,
+                                  credit_total BIGINT NOT NULL DEFAULT 0,
+                                  updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+                                  PRIMARY KEY (account_key, currency, stripe)
+);
+
+-- 2) account_balance_snapshots: cumulative totals as of a point in time.
+--    Historical balance = nearest snapshot <= asOf + entries after it.
+CREATE TABLE account_balance_snapshots (
+                                           id BIGSERIAL PRIMARY KEY,
+                                           account_key VARCHAR(128) NOT NULL,
+                                           currency CHAR(3) NOT NULL,
+                                           as_of TIMESTAMPTZ NOT NULL,
+                                           debit_total BIGINT NOT NULL,
+                                           credit_total BIGINT NOT NULL,
+                                           created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+                                           CONSTRAINT uk_account_balance_snapshots UNIQUE (account_key, currency, as_of)
+);
+
+-- snapshot job reads the entries posted since the previous snapshot
+CREATE INDEX ix_ledger_entries_created_at ON ledger_entries (created_at);
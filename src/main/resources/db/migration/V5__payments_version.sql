@@ -0,0 +1,5 @@
+-- V5__payments_version.sql
+-- Optimistic concurrency for payments: every status change bumps version,
+-- and a transition only applies to the version it read.
+
+ALTER TABLE payments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
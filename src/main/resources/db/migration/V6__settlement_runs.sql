@@ -0,0 +1,22 @@
+-- V6__settlement_runs.sql
+-- Bulk settlement (end-of-day capture) runs
+
+-- A run settles every AUTHORIZED payment created before its cutoff, one chunk
+-- per transaction. Progress is committed with each chunk, and settled payments
+-- drop out of the selection, so a run that died partway resumes where it stopped.
+CREATE TABLE settlement_runs (
+                                 id BIGSERIAL PRIMARY KEY,
+                                 run_id VARCHAR(64) NOT NULL UNIQUE,
+                                 status VARCHAR(16) NOT NULL,                     -- RUNNING, COMPLETED, FAILED
+                                 created_before TIMESTAMPTZ NOT NULL,             -- cutoff on payments.created_at
+                                 chunk_size INTEGER NOT NULL,
+                                 workers INTEGER NOT NULL,
+                                 settled_count BIGINT NOT NULL DEFAULT 0,
+                                 chunk_count BIGINT NOT NULL DEFAULT 0,
+                                 last_error VARCHAR(1000),
+                                 started_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                 updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+                                 finished_at TIMESTAMPTZ
+);
+
+CREATE INDEX ix_settlement_runs_status ON settlement_runs (status);
@@ -0,0 +1,12 @@
+-- V7__idempotency_key_retention.sql
+-- Idempotency keys are purged after their retention window (IdempotencyKeyReaper).
+
+-- payments keep the key they were created with, but the key record only matters
+-- while retries can still arrive; it must be deletable without touching payments.
+ALTER TABLE payments DROP CONSTRAINT fk_payments_idempotency_key;
+
+-- stale IN_PROGRESS recovery looks up the payment created under a key
+CREATE INDEX ix_payments_idempotency_key ON payments (idempotency_key);
+
+-- stale IN_PROGRESS keys, without scanning the (large) SUCCEEDED population
+CREATE INDEX ix_idempotency_keys_in_progress ON idempotency_keys (updated_at) WHERE status = 'IN_PROGRESS';
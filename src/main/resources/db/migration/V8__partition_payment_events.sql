@@ -0,0 +1,66 @@
+-- V8__partition_payment_events.sql
+-- payment_events becomes range-partitioned by created_at, one partition per UTC month.
+--
+-- Retention is then a partition drop instead of a DELETE, and vacuum / index
+-- maintenance stays proportional to the current month. New partitions are
+-- created ahead of time by PartitionManager; this migration creates the
+-- current month and the next three.
+--
+-- The primary key must include the partition key: (id, created_at).
+-- ids still come from payment_events_id_seq and stay unique on their own.
+--
+-- idempotency_keys is NOT partitioned: a unique constraint on a partitioned
+-- table must include the partition key, which would turn the global
+-- idempotency_key uniqueness (our concurrency gate) into per-partition
+-- uniqueness. Its retention is handled by IdempotencyKeyReaper.
+
+ALTER TABLE payment_events RENAME TO payment_events_legacy;
+ALTER INDEX payment_events_pkey RENAME TO payment_events_legacy_pkey;
+ALTER INDEX ix_payment_events_payment_id_created_at RENAME TO ix_payment_events_legacy_payment_id_created_at;
+ALTER TABLE payment_events_legacy RENAME CONSTRAINT fk_payment_events_payment_id TO fk_payment_events_legacy_payment_id;
+ALTER SEQUENCE payment_events_id_seq OWNED BY NONE;
+
+CREATE TABLE payment_events (
+                                id BIGINT NOT NULL DEFAULT nextval('payment_events_id_seq'),
+                                payment_id VARCHAR(64) NOT NULL,
+                                event_type VARCHAR(64) NOT NULL,
+                                from_status VARCHAR(32),
+                                to_status VARCHAR(32),
+                                payload JSONB,
+                                created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+
+                                CONSTRAINT pk_payment_events PRIMARY KEY (id, created_at),
+                                CONSTRAINT fk_payment_events_payment_id
+                                    FOREIGN KEY (payment_id)
+                                        REFERENCES payments (payment_id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE payment_events_id_seq OWNED BY payment_events.id;
+
+CREATE INDEX ix_payment_events_payment_id_created_at ON payment_events (payment_id, created_at);
+
+-- everything before the current month, then monthly partitions (names: payment_events_yYYYYmMM)
+DO $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC');
+    m TIMESTAMP;
+BEGIN
+    EXECUTE format(
+            'CREATE TABLE payment_events_history PARTITION OF payment_events FOR VALUES FROM (MINVALUE) TO (%L)',
+            month_start AT TIME ZONE 'UTC');
+
+    FOR i IN 0..3 LOOP
+        m := month_start + make_interval(months => i);
+        EXECUTE format(
+                'CREATE TABLE %I PARTITION OF payment_events FOR VALUES FROM (%L) TO (%L)',
+                'payment_events_' || to_char(m, '"y"YYYY"m"MM'),
+                m AT TIME ZONE 'UTC',
+                (m + interval '1 month') AT TIME ZONE 'UTC');
+    END LOOP;
+END $$;
+
+INSERT INTO payment_events (id, payment_id, event_type, from_status, to_status, payload, created_at)
+SELECT id, payment_id, event_type, from_status, to_status, payload, created_at
+FROM payment_events_legacy;
+
+DROP TABLE payment_events_legacy;
@@ -0,0 +1,26 @@
+-- V9__payment_status_notify.sql
+-- Every payment_events row announces the payment's new status on the
+-- payment_status channel, as '<payment_id>:<to_status>'.
+--
+-- NOTIFY is transactional: listeners (PaymentStatusListener, one connection
+-- per node) receive it only when the inserting transaction commits, and never
+-- for a rollback. A trigger covers every writer of payment_events: the event
+-- appender, the single-statement transitions and bulk settlement chunks.
+--
+-- Row triggers on a partitioned table are cloned onto every partition,
+-- including the ones PartitionManager creates later.
+
+CREATE FUNCTION notify_payment_status() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM pg_notify('payment_status', NEW.payment_id || ':' || NEW.to_status);
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_payment_events_notify_status
+    AFTER INSERT ON payment_events
+    FOR EACH ROW
+    WHEN (NEW.to_status IS NOT NULL)
+    EXECUTE FUNCTION notify_payment_status();
@@ -0,0 +1,131 @@
+package com.eunseok.payment.api.admission;
+
+import com.eunseok.payment.api.admission.AdaptiveConcurrencyLimiter.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+	private static final long FAST = Duration.ofMillis(1).toNanos();
+	private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+	@Test
+	void admitsUpToTheLimitThenShedsWhenTheQueueIsFull() throws Exception {
+		var limiter = limiter(2, 0);
+
+		assertThat(limiter.acquire(0, TimeUnit.MILLISECONDS)).isEqualTo(Outcome.ADMITTED);
+		assertThat(limiter.acquire(0, TimeUnit.MILLISECONDS)).isEqualTo(Outcome.ADMITTED);
+		assertThat(limiter.acquire(10, TimeUnit.MILLISECONDS)).isEqualTo(Outcome.SHED);
+		assertThat(limiter.inFlight()).isEqualTo(2);
+	}
+
+	@Test
+	void queuedRequestTakesTheNextReleasedSlot() throws Exception {
+		var limiter = limiter(1, 4);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			CompletableFuture<Outcome> queued = CompletableFuture.supplyAsync(() -> {
+				try {
+					return limiter.acquire(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}, executor);
+
+			while (limiter.waiting() == 0 && !queued.isDone()) {
+				Thread.onSpinWait();
+			}
+			limiter.release(0, FAST, false, true);
+
+			assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(Outcome.QUEUED);
+		}
+		assertThat(limiter.inFlight()).isEqualTo(1);
+	}
+
+	@Test
+	void queuedRequestIsShedAfterMaxWait() throws Exception {
+		var limiter = limiter(1, 4);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		assertThat(limiter.acquire(20, TimeUnit.MILLISECONDS)).isEqualTo(Outcome.SHED);
+		assertThat(limiter.waiting()).isZero();
+	}
+
+	@Test
+	void slowResponsesShrinkTheLimitDownToTheMinimum() throws Exception {
+		var limiter = limiter(10, 0);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.acquire(0, TimeUnit.MILLISECONDS);
+			limiter.release(i * SLOW, (i + 1) * SLOW, false, true);
+		}
+
+		assertThat(limiter.limit()).isEqualTo(1);
+	}
+
+	@Test
+	void slowWindowDecreasesTheLimitOnce() throws Exception {
+		var limiter = limiter(10, 0);
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire(0, TimeUnit.MILLISECONDS);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			limiter.release(i, SLOW + i, i % 2 == 0, true);
+		}
+
+		assertThat(limiter.limit()).isEqualTo(9);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	@Test
+	void requestStartedAfterADecreaseCanDecreaseAgain() throws Exception {
+		var limiter = limiter(10, 0);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+
+		limiter.release(0, SLOW, false, true);
+		limiter.release(SLOW + 1, 2 * SLOW, false, true);
+
+		assertThat(limiter.limit()).isEqualTo(8);
+	}
+
+	@Test
+	void fastResponsesUnderLoadGrowTheLimitUpToTheMaximum() throws Exception {
+		var limiter = limiter(4, 0);
+
+		for (int round = 0; round < 500; round++) {
+			int n = limiter.limit();
+			for (int i = 0; i < n; i++) {
+				limiter.acquire(0, TimeUnit.MILLISECONDS);
+			}
+			for (int i = 0; i < n; i++) {
+				limiter.release(0, FAST, false, true);
+			}
+		}
+
+		assertThat(limiter.limit()).isEqualTo(16);
+	}
+
+	@Test
+	void unsampledReleaseDoesNotAdapt() throws Exception {
+		var limiter = limiter(4, 0);
+
+		limiter.acquire(0, TimeUnit.MILLISECONDS);
+		limiter.release(0, SLOW, true, false);
+
+		assertThat(limiter.limit()).isEqualTo(4);
+		assertThat(limiter.inFlight()).isZero();
+	}
+
+	private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int queueSize) {
+		return new AdaptiveConcurrencyLimiter(new AdmissionProperties.Budget(
+				initialLimit, 1, 16, queueSize, Duration.ofMillis(50), Duration.ofMillis(100)));
+	}
+}
@@ -0,0 +1,50 @@
+package com.eunseok.payment.api.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlFilterTest {
+	// HikariConfig's maximumPoolSize when spring.datasource.hikari.maximum-pool-size is not set
+	private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+	@Test
+	void defaultBudgetsFitHikariDefaultPool() {
+		AdmissionProperties defaults = new Binder(new MapConfigurationPropertySource(Map.of()))
+				.bindOrCreate("payment.admission", AdmissionProperties.class);
+
+		AdmissionControlFilter.checkFitsPool(defaults, HIKARI_DEFAULT_POOL_SIZE);
+	}
+
+	@Test
+	void shippedBudgetsFitShippedPool() throws IOException {
+		Binder binder = new Binder(ConfigurationPropertySources.from(new PropertiesPropertySourceLoader()
+				.load("application", new ClassPathResource("application.properties"))));
+		AdmissionProperties properties = binder.bindOrCreate("payment.admission", AdmissionProperties.class);
+		int poolSize = binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).get();
+
+		AdmissionControlFilter.checkFitsPool(properties, poolSize);
+		assertThat(properties.create().maxLimit() + properties.transitions().maxLimit() + properties.reads().maxLimit()
+				+ properties.reservedConnections()).isEqualTo(poolSize);
+	}
+
+	@Test
+	void budgetsBeyondThePoolFailStartup() {
+		AdmissionProperties oversized = new Binder(new MapConfigurationPropertySource(Map.of(
+				"payment.admission.reads.max-limit", "64"
+		))).bindOrCreate("payment.admission", AdmissionProperties.class);
+
+		assertThatThrownBy(() -> AdmissionControlFilter.checkFitsPool(oversized, HIKARI_DEFAULT_POOL_SIZE))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("spring.datasource.hikari.maximum-pool-size (10)");
+	}
+}
@@ -0,0 +1,100 @@
+package com.eunseok.payment.application.await;
+
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache.PaymentSnapshot;
+import com.eunseok.payment.application.service.PaymentService;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentStatusWaitersTest {
+	private static final Instant AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private volatile PaymentStatus stored = PaymentStatus.INIT;
+
+	// Only the primary read is used by the waiters
+	private final PaymentService paymentService = new PaymentService(
+			null, null, null, null, null, null, null, null, null, null, null, null, null, null) {
+		@Override
+		public PaymentSnapshot getPaymentFromPrimary(String paymentId) {
+			return new PaymentSnapshot(new PaymentResponse(paymentId, stored, 1000L, "CAD", AT, AT), 0, "\"0\"", new byte[0]);
+		}
+	};
+
+	@Test
+	void alreadyAtTargetCompletesImmediately() {
+		stored = PaymentStatus.AUTHORIZED;
+
+		CompletableFuture<PaymentSnapshot> result = waiters(10).await("p-1", PaymentStatus.AUTHORIZED, Duration.ofSeconds(5));
+
+		assertThat(result).isCompleted();
+		assertThat(result.join().payment().status()).isEqualTo(PaymentStatus.AUTHORIZED);
+	}
+
+	@Test
+	void notifiedStatusCompletesTheWaiter() throws Exception {
+		PaymentStatusWaiters waiters = waiters(10);
+		CompletableFuture<PaymentSnapshot> result = waiters.await("p-1", PaymentStatus.SETTLED, Duration.ofSeconds(5));
+
+		stored = PaymentStatus.AUTHORIZED;
+		waiters.statusChanged("p-1", PaymentStatus.AUTHORIZED);
+		assertThat(result).isNotDone();
+
+		stored = PaymentStatus.SETTLED;
+		waiters.statusChanged("p-1", PaymentStatus.SETTLED);
+
+		assertThat(result.get(1, TimeUnit.SECONDS).payment().status()).isEqualTo(PaymentStatus.SETTLED);
+		assertThat(completions("reached")).isEqualTo(1);
+		assertThat(registry.get("payment.await.waiters").gauge().value()).isZero();
+	}
+
+	@Test
+	void statusThatCannotReachTargetCompletesEarly() throws Exception {
+		PaymentStatusWaiters waiters = waiters(10);
+		CompletableFuture<PaymentSnapshot> result = waiters.await("p-1", PaymentStatus.SETTLED, Duration.ofSeconds(5));
+
+		stored = PaymentStatus.CANCELED;
+		waiters.statusChanged("p-1", PaymentStatus.CANCELED);
+
+		assertThat(result.get(1, TimeUnit.SECONDS).payment().status()).isEqualTo(PaymentStatus.CANCELED);
+		assertThat(completions("unreachable")).isEqualTo(1);
+	}
+
+	@Test
+	void timeoutAnswersWithTheCurrentPayment() throws Exception {
+		CompletableFuture<PaymentSnapshot> result = waiters(10).await("p-1", PaymentStatus.SETTLED, Duration.ofMillis(20));
+
+		assertThat(result.get(1, TimeUnit.SECONDS).payment().status()).isEqualTo(PaymentStatus.INIT);
+		assertThat(completions("timeout")).isEqualTo(1);
+	}
+
+	@Test
+	void waitersBeyondTheLimitAreRejected() {
+		PaymentStatusWaiters waiters = waiters(1);
+		waiters.await("p-1", PaymentStatus.SETTLED, Duration.ofSeconds(5));
+
+		assertThatThrownBy(() -> waiters.await("p-2", PaymentStatus.SETTLED, Duration.ofSeconds(5)))
+				.isInstanceOf(ResponseStatusException.class)
+				.hasMessageContaining("Too many waiting requests");
+	}
+
+	private PaymentStatusWaiters waiters(int maxWaiters) {
+		return new PaymentStatusWaiters(paymentService,
+				new AwaitProperties(true, Duration.ofSeconds(60), maxWaiters, Duration.ofMillis(500), Duration.ofSeconds(1)),
+				registry);
+	}
+
+	private double completions(String outcome) {
+		return registry.get("payment.await.completions").tag("outcome", outcome).counter().count();
+	}
+}
@@ -0,0 +1,59 @@
+package com.eunseok.payment.application.cache;
+
+import com.eunseok.payment.api.dto.PaymentResponse;
+import com.eunseok.payment.application.cache.PaymentSnapshotCache.PaymentSnapshot;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentSnapshotCacheTest {
+	private static final Instant AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final PaymentSnapshotCache cache = new PaymentSnapshotCache(
+			new PaymentSnapshotCacheProperties(true, 100, Duration.ofMinutes(1), Duration.ofHours(1)),
+			JsonMapper.builder().build(),
+			new SimpleMeterRegistry()
+	);
+
+	@Test
+	void snapshotCarriesSerializedBodyAndVersionEtag() {
+		PaymentSnapshot snapshot = cache.put(payment(PaymentStatus.AUTHORIZED), 1);
+
+		assertThat(snapshot.etag()).isEqualTo("\"1\"");
+		assertThat(new String(snapshot.body(), StandardCharsets.UTF_8))
+				.contains("\"paymentId\":\"p-1\"", "\"status\":\"AUTHORIZED\"");
+		assertThat(cache.get("p-1")).isSameAs(snapshot);
+	}
+
+	@Test
+	void olderVersionDoesNotReplaceNewerSnapshot() {
+		cache.put(payment(PaymentStatus.SETTLED), 2);
+
+		// A read-through that loaded version 1 before the settle committed
+		PaymentSnapshot stale = cache.put(payment(PaymentStatus.AUTHORIZED), 1);
+
+		assertThat(stale.version()).isEqualTo(2);
+		assertThat(cache.get("p-1").payment().status()).isEqualTo(PaymentStatus.SETTLED);
+	}
+
+	@Test
+	void invalidateWithoutTransactionDropsImmediately() {
+		cache.put(payment(PaymentStatus.AUTHORIZED), 1);
+
+		cache.invalidateAfterCommit(List.of("p-1"));
+
+		assertThat(cache.get("p-1")).isNull();
+	}
+
+	private static PaymentResponse payment(PaymentStatus status) {
+		return new PaymentResponse("p-1", status, 1000L, "CAD", AT, AT);
+	}
+}
@@ -0,0 +1,130 @@
+package com.eunseok.payment.application.outbox;
+
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.OutboxJdbcRepository.OutboxRow;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * Migrated schema, events inserted as the application does; once the outbox is
+ * switched on, the trigger fills it and several workers drain it into the in-memory sink.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxRelayTest {
+	private static final int PAYMENTS = 50;
+	private static final int EVENTS_PER_PAYMENT = 10;
+
+	@Container
+	static final PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:16"));
+
+	private static HikariDataSource dataSource;
+	private static JdbcTemplate jdbc;
+
+	@BeforeAll
+	static void setUp() {
+		dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(postgres.getJdbcUrl());
+		dataSource.setUsername(postgres.getUsername());
+		dataSource.setPassword(postgres.getPassword());
+		dataSource.setMaximumPoolSize(8);
+		Flyway.configure().dataSource(dataSource).load().migrate();
+		jdbc = new JdbcTemplate(dataSource);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		dataSource.close();
+	}
+
+	@Test
+	void relaysEveryEventOnceInPerPaymentOrder() throws InterruptedException {
+		for (int p = 0; p < PAYMENTS; p++) {
+			jdbc.update("INSERT INTO idempotency_keys (idempotency_key, request_hash, status) VALUES (?, 'h', 'SUCCEEDED')", "key-" + p);
+			jdbc.update("""
+					INSERT INTO payments (payment_id, idempotency_key, payment_method, amount, currency, status)
+					VALUES (?, ?, 'CARD', 1000, 'CAD', 'REQUESTED')
+					""", "pay-" + p, "key-" + p);
+		}
+		// written before any relay started: not enqueued
+		jdbc.update("""
+				INSERT INTO payment_events (payment_id, event_type, from_status, to_status)
+				VALUES ('pay-0', 'PAYMENT_CREATED', NULL, 'REQUESTED')
+				""");
+		assertThat(jdbc.queryForObject("SELECT count(*) FROM payment_outbox", Long.class)).isZero();
+		assertThat(new OutboxJdbcRepository(jdbc).enableEnqueue()).isTrue();
+
+		// interleaved across payments, so every shard holds several payments
+		for (int i = 0; i < EVENTS_PER_PAYMENT; i++) {
+			for (int p = 0; p < PAYMENTS; p++) {
+				jdbc.update("""
+						INSERT INTO payment_events (payment_id, event_type, from_status, to_status, payload)
+						VALUES (?, 'STATUS_CHANGED', 'REQUESTED', 'AUTHORIZED', CAST(? AS jsonb))
+						""", "pay-" + p, "{\"seq\": " + i + "}");
+			}
+		}
+
+		InMemoryOutboxSink sink = new InMemoryOutboxSink();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		OutboxRelay relay = new OutboxRelay(
+				new OutboxJdbcRepository(jdbc),
+				Optional.of(sink),
+				new OutboxProperties(true, 4, 7, Duration.ofMillis(20), Duration.ofMillis(100), "memory", null),
+				new DataSourceTransactionManager(dataSource),
+				registry
+		);
+		relay.start();
+		try {
+			long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+			while (sink.published().size() < PAYMENTS * EVENTS_PER_PAYMENT && System.nanoTime() < deadline) {
+				Thread.sleep(50);
+			}
+		} finally {
+			relay.stop();
+		}
+
+		List<OutboxRow> published = sink.published();
+		assertThat(published).hasSize(PAYMENTS * EVENTS_PER_PAYMENT);
+		assertThat(published).extracting(OutboxRow::eventId).doesNotHaveDuplicates();
+		assertThat(jdbc.queryForObject("SELECT count(*) FROM payment_outbox", Long.class)).isZero();
+		assertThat(registry.get("payment.outbox.relay.lag").timer().count()).isEqualTo(PAYMENTS * EVENTS_PER_PAYMENT);
+
+		Map<String, Long> lastEventId = new HashMap<>();
+		for (OutboxRow row : published) {
+			Long previous = lastEventId.put(row.paymentId(), row.eventId());
+			if (previous != null) {
+				assertThat(row.eventId()).as("events of %s in order", row.paymentId()).isGreaterThan(previous);
+			}
+		}
+	}
+
+	@Test
+	void enabledRelayWithoutSinkFailsStartup() {
+		assertThatThrownBy(() -> new OutboxRelay(
+				new OutboxJdbcRepository(jdbc),
+				Optional.empty(),
+				new OutboxProperties(true, 4, 500, Duration.ofMillis(200), Duration.ofSeconds(1), null, null),
+				new DataSourceTransactionManager(dataSource),
+				new SimpleMeterRegistry()
+		)).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("payment.outbox.sink");
+	}
+}
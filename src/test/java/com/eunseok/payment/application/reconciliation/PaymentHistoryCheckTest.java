@@ -0,0 +1,83 @@
+package com.eunseok.payment.application.reconciliation;
+
+import com.eunseok.payment.domain.model.DiscrepancyType;
+import org.junit.jupiter.api.Test;
+
+import static com.eunseok.payment.domain.model.PaymentStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentHistoryCheckTest {
+
+	@Test
+	void consistentHistoryHasNoDiscrepancy() {
+		var check = new PaymentHistoryCheck("p-1", REVERSED);
+		check.accept(1, null, INIT);
+		check.accept(2, INIT, AUTHORIZED);
+		check.accept(3, AUTHORIZED, SETTLED);
+		check.accept(4, SETTLED, REVERSED);
+
+		assertThat(check.finish()).isNull();
+	}
+
+	@Test
+	void paymentWithoutEventsIsMissingHistory() {
+		assertThat(new PaymentHistoryCheck("p-1", INIT).finish().type()).isEqualTo(DiscrepancyType.MISSING_HISTORY);
+	}
+
+	@Test
+	void statusAheadOfHistoryIsMismatch() {
+		var check = new PaymentHistoryCheck("p-1", SETTLED);
+		check.accept(1, null, INIT);
+		check.accept(2, INIT, AUTHORIZED);
+
+		var discrepancy = check.finish();
+		assertThat(discrepancy.type()).isEqualTo(DiscrepancyType.STATUS_MISMATCH);
+		assertThat(discrepancy.detail()).isEqualTo("status SETTLED, history ends at AUTHORIZED");
+	}
+
+	@Test
+	void firstFindingWins() {
+		var check = new PaymentHistoryCheck("p-1", SETTLED);
+		check.accept(1, null, INIT);
+		check.accept(2, INIT, SETTLED);
+		check.accept(3, AUTHORIZED, SETTLED);
+
+		var discrepancy = check.finish();
+		assertThat(discrepancy.type()).isEqualTo(DiscrepancyType.ILLEGAL_TRANSITION);
+		assertThat(discrepancy.detail()).isEqualTo("event 2: INIT -> SETTLED");
+	}
+
+	@Test
+	void gapBetweenEventsIsBrokenChain() {
+		var check = new PaymentHistoryCheck("p-1", SETTLED);
+		check.accept(1, null, INIT);
+		check.accept(2, AUTHORIZED, SETTLED);
+
+		assertThat(check.finish().type()).isEqualTo(DiscrepancyType.BROKEN_CHAIN);
+	}
+
+	@Test
+	void truncatedHistoryMayStartAfterCreation() {
+		var check = new PaymentHistoryCheck("p-1", REVERSED, true);
+		check.accept(3, AUTHORIZED, SETTLED);
+		check.accept(4, SETTLED, REVERSED);
+
+		assertThat(check.finish()).isNull();
+	}
+
+	@Test
+	void fullyExpiredHistoryIsNotMissing() {
+		assertThat(new PaymentHistoryCheck("p-1", SETTLED, true).finish()).isNull();
+	}
+
+	@Test
+	void truncatedHistoryIsStillCheckedAfterItsFirstEvent() {
+		var check = new PaymentHistoryCheck("p-1", SETTLED, true);
+		check.accept(3, AUTHORIZED, SETTLED);
+		check.accept(4, SETTLED, AUTHORIZED);
+
+		var discrepancy = check.finish();
+		assertThat(discrepancy.type()).isEqualTo(DiscrepancyType.ILLEGAL_TRANSITION);
+		assertThat(discrepancy.detail()).isEqualTo("event 4: SETTLED -> AUTHORIZED");
+	}
+}
@@ -0,0 +1,79 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import com.eunseok.payment.domain.model.PaymentEventPayload.Created;
+import com.eunseok.payment.domain.model.PaymentEventPayload.StatusChanged;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentEventPayloadsTest {
+	private static final Instant AT = Instant.parse("2026-01-15T10:00:00.123456Z");
+
+	private final PaymentEventPayloads payloads = new PaymentEventPayloads();
+	private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	@Test
+	void statusChangedPayload() {
+		assertThat(payloads.statusChanged(PaymentStatus.AUTHORIZED, AT))
+				.isEqualTo("{\"action\":\"authorized\",\"at\":\"2026-01-15T10:00:00.123456Z\"}");
+		assertThat(payloads.statusChanged(PaymentStatus.SETTLED, AT, "run-1"))
+				.isEqualTo("{\"action\":\"settle\",\"at\":\"2026-01-15T10:00:00.123456Z\",\"runId\":\"run-1\"}");
+	}
+
+	@Test
+	void createdPayloadOmitsNullFields() {
+		assertThat(payloads.created(new CreatePaymentRequest(1000L, "CAD", "CARD", null)))
+				.isEqualTo("{\"amount\":1000,\"currency\":\"CAD\",\"paymentMethod\":\"CARD\"}");
+	}
+
+	@Test
+	void versionIsWrittenFromVersionTwoOn() {
+		assertThat(payloads.write(new Created(2, 1000L, "CAD", "CARD", null)))
+				.isEqualTo("{\"v\":2,\"amount\":1000,\"currency\":\"CAD\",\"paymentMethod\":\"CARD\"}");
+		assertThat(payloads.write(new Created(2, null, "CAD", "CARD", null)))
+				.isEqualTo("{\"v\":2,\"currency\":\"CAD\",\"paymentMethod\":\"CARD\"}");
+		assertThat(payloads.write(new Created(2, null, null, null, null))).isEqualTo("{\"v\":2}");
+		assertThat(payloads.write(new Created(1, null, "CAD", null, null))).isEqualTo("{\"currency\":\"CAD\"}");
+		assertThat(payloads.write(new Created(1, null, null, null, null))).isEqualTo("{}");
+	}
+
+	@Test
+	void createdPayloadsWithNullFieldsReadBack() {
+		for (Created payload : new Created[]{
+				new Created(2, null, "CAD", "CARD", null), new Created(2, null, null, null, "d"),
+				new Created(2, null, null, null, null), new Created(1, null, null, "CARD", null)}) {
+			assertThat(objectMapper.readValue(payloads.write(payload), Created.class)).isEqualTo(payload);
+		}
+	}
+
+	@Test
+	void instantsFormatLikeInstantToString() {
+		for (String text : new String[]{
+				"2026-01-15T10:00:00Z", "2026-01-15T10:00:00.100Z", "2026-01-15T10:00:00.000100Z",
+				"2026-01-15T10:00:00.000000001Z", "1970-01-01T00:00:00Z", "1969-12-31T23:59:59.999Z",
+				"0001-03-01T05:06:07.089Z", "9999-12-31T23:59:59.999999999Z"}) {
+			Instant instant = Instant.parse(text);
+			StringBuilder sb = new StringBuilder();
+			PaymentEventPayloads.appendInstant(sb, instant);
+			assertThat(sb.toString()).isEqualTo(instant.toString());
+		}
+	}
+
+	@Test
+	void payloadsReadBackIntoTheirRecords() {
+		String description = "quote \" backslash \\ newline \n tab \t bell \u0007 é 日本";
+		String created = payloads.created(new CreatePaymentRequest(1000L, "CAD", "CARD", description));
+		String changed = payloads.statusChanged(PaymentStatus.REVERSED, AT, "run-\"1\"");
+
+		assertThat(objectMapper.readValue(created, Created.class))
+				.isEqualTo(new Created(1, 1000L, "CAD", "CARD", description));
+		assertThat(objectMapper.readValue(changed, StatusChanged.class))
+				.isEqualTo(new StatusChanged(1, "reversed", AT, "run-\"1\""));
+	}
+}
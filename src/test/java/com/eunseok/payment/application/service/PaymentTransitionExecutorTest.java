@@ -0,0 +1,162 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentTransitionExecutorTest {
+	private static final Instant AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+	private final List<Boolean> attemptsInTransaction = new ArrayList<>();
+
+	@Test
+	void conflictIsRetriedAndResolvedByTheNextAttempt() {
+		var executor = executor(3,
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false),
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.SETTLED, true));
+
+		TransitionRow result = executor.apply("p-1", PaymentStatus.SETTLED, "{}", AT);
+
+		assertThat(result.applied()).isTrue();
+		assertThat(count("payment.transition.conflicts")).isEqualTo(1);
+		assertThat(count("payment.transition.retries")).isEqualTo(1);
+	}
+
+	@Test
+	void eachAttemptRunsInItsOwnTransaction() {
+		var executor = executor(3,
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false),
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false),
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.SETTLED, true));
+		List<Boolean> appliedInTransaction = new ArrayList<>();
+
+		executor.apply("p-1", PaymentStatus.SETTLED, "{}", AT,
+				row -> appliedInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive()));
+
+		assertThat(attemptsInTransaction).containsExactly(true, true, true);
+		assertThat(transactionManager.commits).isEqualTo(3);
+		assertThat(appliedInTransaction).containsExactly(true);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+	}
+
+	@Test
+	void retryThatFindsTheTargetStatusReturnsItUnchanged() {
+		var executor = executor(3,
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false),
+				row(PaymentStatus.SETTLED, PaymentStatus.SETTLED, false));
+
+		TransitionRow result = executor.apply("p-1", PaymentStatus.SETTLED, "{}", AT);
+
+		assertThat(result.applied()).isFalse();
+		assertThat(result.status()).isEqualTo(PaymentStatus.SETTLED);
+	}
+
+	@Test
+	void conflictsBeyondMaxAttemptsAreRejected() {
+		var executor = executor(2,
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false),
+				row(PaymentStatus.AUTHORIZED, PaymentStatus.AUTHORIZED, false));
+
+		assertThatThrownBy(() -> executor.apply("p-1", PaymentStatus.SETTLED, "{}", AT))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("modified concurrently");
+		assertThat(count("payment.transition.conflicts")).isEqualTo(2);
+		assertThat(count("payment.transition.retries")).isEqualTo(1);
+	}
+
+	@Test
+	void invalidTransitionIsRejectedWithoutRetry() {
+		var executor = executor(3,
+				row(PaymentStatus.CANCELED, PaymentStatus.CANCELED, false));
+
+		assertThatThrownBy(() -> executor.apply("p-1", PaymentStatus.SETTLED, "{}", AT))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("Invalid status transition: CANCELED -> SETTLED");
+		assertThat(count("payment.transition.conflicts")).isZero();
+	}
+
+	@Test
+	void unknownPaymentIsNotFound() {
+		var executor = executor(3);
+
+		assertThatThrownBy(() -> executor.apply("missing", PaymentStatus.SETTLED, "{}", AT))
+				.isInstanceOf(ResponseStatusException.class);
+	}
+
+	private PaymentTransitionExecutor executor(int maxAttempts, TransitionRow... outcomes) {
+		Deque<TransitionRow> remaining = new ArrayDeque<>(List.of(outcomes));
+		var repository = new PaymentTransitionJdbcRepository(null) {
+			@Override
+			public Optional<TransitionRow> transition(
+					String paymentId,
+					PaymentStatus target,
+					Set<PaymentStatus> sources,
+					String payloadJson,
+					Instant at
+			) {
+				attemptsInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+				return Optional.ofNullable(remaining.poll());
+			}
+		};
+		return new PaymentTransitionExecutor(
+				repository,
+				new TransitionRetryProperties(maxAttempts, Duration.ZERO, Duration.ZERO),
+				transactionManager,
+				registry
+		);
+	}
+
+	private static TransitionRow row(PaymentStatus previous, PaymentStatus status, boolean applied) {
+		return new TransitionRow("p-1", "CARD", 1000, "CAD", previous, status, 1, AT, AT, applied);
+	}
+
+	private double count(String name) {
+		return registry.get(name).tag("transition", "settled").counter().count();
+	}
+
+	/*
+	 * Resourceless transactions; counts commits.
+	 */
+	private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+		int commits;
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+			commits++;
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.eunseok.payment.application.service;
+
+import com.eunseok.payment.api.dto.CreatePaymentRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestFingerprintTest {
+
+	@Test
+	void sameRequestSameFingerprint() {
+		var a = new CreatePaymentRequest(1000L, "CAD", "CARD", "smoke test");
+		var b = new CreatePaymentRequest(1000L, "CAD", "CARD", "smoke test");
+
+		assertThat(RequestFingerprint.sha256Hex(a))
+				.isEqualTo(RequestFingerprint.sha256Hex(b))
+				.hasSize(64)
+				.matches("[0-9a-f]{64}");
+	}
+
+	@Test
+	void fieldBoundariesAreUnambiguous() {
+		var a = new CreatePaymentRequest(1000L, "CAD", "CARDx", "y");
+		var b = new CreatePaymentRequest(1000L, "CAD", "CARD", "xy");
+
+		assertThat(RequestFingerprint.sha256Hex(a)).isNotEqualTo(RequestFingerprint.sha256Hex(b));
+	}
+
+	@Test
+	void nullAndEmptyDescriptionDiffer() {
+		var a = new CreatePaymentRequest(1000L, "CAD", "CARD", null);
+		var b = new CreatePaymentRequest(1000L, "CAD", "CARD", "");
+
+		assertThat(RequestFingerprint.sha256Hex(a)).isNotEqualTo(RequestFingerprint.sha256Hex(b));
+	}
+
+	@Test
+	void nonAsciiTextIsEncodedAsUtf8() {
+		var a = new CreatePaymentRequest(1000L, "KRW", "CARD", "결제 💳 café");
+		var b = new CreatePaymentRequest(1000L, "KRW", "CARD", "결제 💳 cafe");
+
+		assertThat(RequestFingerprint.sha256Hex(a))
+				.isEqualTo(RequestFingerprint.sha256Hex(a))
+				.isNotEqualTo(RequestFingerprint.sha256Hex(b));
+	}
+
+	@Test
+	void matchesDocumentedLayout() throws Exception {
+		var req = new CreatePaymentRequest(1000L, "KRW", "CARD", "결제 💳 café");
+
+		var bytes = new ByteArrayOutputStream();
+		var out = new DataOutputStream(bytes);
+		out.writeByte(1);
+		out.writeByte(1);
+		out.writeLong(req.amount());
+		for (String field : new String[]{req.currency(), req.paymentMethod(), req.description()}) {
+			byte[] utf8 = field.getBytes(StandardCharsets.UTF_8);
+			out.writeByte(1);
+			out.writeInt(utf8.length);
+			out.write(utf8);
+		}
+		String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray()));
+
+		assertThat(RequestFingerprint.sha256Hex(req)).isEqualTo(expected);
+	}
+}
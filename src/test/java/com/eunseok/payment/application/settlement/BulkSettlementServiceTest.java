@@ -0,0 +1,216 @@
+package com.eunseok.payment.application.settlement;
+
+import com.eunseok.payment.application.cache.PaymentSnapshotCache;
+import com.eunseok.payment.application.cache.PaymentSnapshotCacheProperties;
+import com.eunseok.payment.application.ledger.LedgerPostingEngine;
+import com.eunseok.payment.application.ledger.LedgerProperties;
+import com.eunseok.payment.application.service.PaymentEventPayloads;
+import com.eunseok.payment.application.service.PaymentMetrics;
+import com.eunseok.payment.common.util.TimeOrderedIdGenerator;
+import com.eunseok.payment.domain.model.PaymentStatus;
+import com.eunseok.payment.domain.model.SettlementRunStatus;
+import com.eunseok.payment.infra.datasource.ReadYourWrites;
+import com.eunseok.payment.infra.datasource.ReplicaProperties;
+import com.eunseok.payment.infra.persistence.jdbc.PaymentTransitionJdbcRepository.TransitionRow;
+import com.eunseok.payment.infra.persistence.jdbc.SettlementJdbcRepository;
+import com.eunseok.payment.infra.persistence.jdbc.SettlementJdbcRepository.SettlementRunRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * settlement_runs kept in memory; chunks settle one payment each until the
+ * repository runs out of payments.
+ */
+class BulkSettlementServiceTest {
+	private static final Instant AT = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final FakeSettlementRepository repository = new FakeSettlementRepository();
+
+	@Test
+	void stopMarksTheRunInterruptedAfterItsChunks() throws InterruptedException {
+		repository.payments.set(Integer.MAX_VALUE);
+		BulkSettlementService service = service(true);
+
+		String runId = service.start(AT, 2, 10).runId();
+		assertThat(repository.chunksRecorded.await(10, TimeUnit.SECONDS)).isTrue();
+		service.stop();
+
+		assertThat(repository.status(runId)).isEqualTo(SettlementRunStatus.INTERRUPTED);
+		assertThat(repository.finished).isEmpty();
+	}
+
+	@Test
+	void interruptedRunIsResumedOnStartupWithoutWaitingForTheLease() {
+		repository.payments.set(5);
+		repository.insertRun("run-1", AT, 10, 2);
+		repository.interrupt("run-1");
+
+		service(true).resumeStaleRuns();
+
+		assertThat(repository.awaitFinished("run-1")).isEqualTo(SettlementRunStatus.COMPLETED);
+		assertThat(repository.payments.get()).isZero();
+	}
+
+	@Test
+	void runningRunIsResumedOnlyOnceItsLeaseExpired() {
+		repository.payments.set(5);
+		repository.insertRun("fresh", AT, 10, 1);
+		repository.insertRun("stale", AT, 10, 1);
+		repository.runs.computeIfPresent("stale", (id, run) -> withUpdatedAt(run, Instant.now().minus(Duration.ofMinutes(5))));
+
+		service(true).resumeStaleRuns();
+
+		assertThat(repository.awaitFinished("stale")).isEqualTo(SettlementRunStatus.COMPLETED);
+		assertThat(repository.status("fresh")).isEqualTo(SettlementRunStatus.RUNNING);
+	}
+
+	@Test
+	void nothingIsResumedWhenResumeIsOff() {
+		repository.insertRun("run-1", AT, 10, 1);
+		repository.interrupt("run-1");
+
+		service(false).resumeStaleRuns();
+
+		assertThat(repository.status("run-1")).isEqualTo(SettlementRunStatus.INTERRUPTED);
+	}
+
+	private BulkSettlementService service(boolean resumeOnStartup) {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		return new BulkSettlementService(
+				repository,
+				new LedgerPostingEngine(null, null, new LedgerProperties(false, "merchant:default", "clearing:", 8, null)),
+				new TimeOrderedIdGenerator(1, 4),
+				new PaymentEventPayloads(),
+				new SettlementProperties(2, 10, resumeOnStartup, Duration.ofMinutes(1)),
+				new PaymentMetrics(registry),
+				new PaymentSnapshotCache(
+						new PaymentSnapshotCacheProperties(true, 100, Duration.ofMinutes(1), Duration.ofHours(1)),
+						JsonMapper.builder().build(),
+						registry),
+				new ReadYourWrites(new ReplicaProperties(false, List.of(), null, null, 10, Duration.ofSeconds(5), 100)),
+				new ResourcelessTransactionManager()
+		);
+	}
+
+	private static SettlementRunRow withUpdatedAt(SettlementRunRow run, Instant updatedAt) {
+		return new SettlementRunRow(run.runId(), run.status(), run.createdBefore(), run.chunkSize(), run.workers(),
+				run.settledCount(), run.chunkCount(), run.lastError(), run.startedAt(), updatedAt, run.finishedAt());
+	}
+
+	private static SettlementRunRow withStatus(SettlementRunRow run, SettlementRunStatus status) {
+		return new SettlementRunRow(run.runId(), status, run.createdBefore(), run.chunkSize(), run.workers(),
+				run.settledCount(), run.chunkCount(), run.lastError(), run.startedAt(), Instant.now(), run.finishedAt());
+	}
+
+	private static class FakeSettlementRepository extends SettlementJdbcRepository {
+		final Map<String, SettlementRunRow> runs = new ConcurrentHashMap<>();
+		final Map<String, SettlementRunStatus> finished = new ConcurrentHashMap<>();
+		final AtomicInteger payments = new AtomicInteger();
+		final CountDownLatch chunksRecorded = new CountDownLatch(4);
+
+		FakeSettlementRepository() {
+			super(null);
+		}
+
+		@Override
+		public List<TransitionRow> settleChunk(Instant createdBefore, int limit, String payloadJson, Instant at) {
+			if (payments.getAndUpdate(left -> Math.max(left - 1, 0)) == 0) return List.of();
+			return List.of(new TransitionRow("p-1", "CARD", 1000, "CAD",
+					PaymentStatus.AUTHORIZED, PaymentStatus.SETTLED, 2, AT, at, true));
+		}
+
+		@Override
+		public void insertRun(String runId, Instant createdBefore, int chunkSize, int workers) {
+			Instant now = Instant.now();
+			runs.put(runId, new SettlementRunRow(runId, SettlementRunStatus.RUNNING, createdBefore, chunkSize, workers,
+					0, 0, null, now, now, null));
+		}
+
+		@Override
+		public Optional<SettlementRunRow> findRun(String runId) {
+			return Optional.ofNullable(runs.get(runId));
+		}
+
+		@Override
+		public List<SettlementRunRow> claimResumable(Instant staleBefore) {
+			List<SettlementRunRow> claimed = new ArrayList<>();
+			runs.replaceAll((id, run) -> {
+				boolean resumable = run.status() == SettlementRunStatus.INTERRUPTED
+						|| run.status() == SettlementRunStatus.RUNNING && run.updatedAt().isBefore(staleBefore);
+				if (!resumable) return run;
+				SettlementRunRow running = withStatus(run, SettlementRunStatus.RUNNING);
+				claimed.add(running);
+				return running;
+			});
+			return claimed;
+		}
+
+		@Override
+		public void interrupt(String runId) {
+			runs.computeIfPresent(runId, (id, run) -> run.status() == SettlementRunStatus.RUNNING
+					? withStatus(run, SettlementRunStatus.INTERRUPTED) : run);
+		}
+
+		@Override
+		public void recordChunk(String runId, int settled) {
+			chunksRecorded.countDown();
+		}
+
+		@Override
+		public void finish(String runId, SettlementRunStatus status, String error) {
+			runs.computeIfPresent(runId, (id, run) -> withStatus(run, status));
+			finished.put(runId, status);
+		}
+
+		SettlementRunStatus status(String runId) {
+			return runs.get(runId).status();
+		}
+
+		SettlementRunStatus awaitFinished(String runId) {
+			long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+			while (!finished.containsKey(runId) && System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+			return finished.get(runId);
+		}
+	}
+
+	/*
+	 * Resourceless transactions.
+	 */
+	private static class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.eunseok.payment.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+	@Test
+	void idsAreVersion7AndCarryTheNode() {
+		var generator = new TimeOrderedIdGenerator(5, 10);
+
+		UUID id = generator.nextUuid();
+
+		assertThat(id.version()).isEqualTo(7);
+		assertThat(id.variant()).isEqualTo(2);
+		assertThat((id.getLeastSignificantBits() >>> 52) & 0x3FF).isEqualTo(5);
+	}
+
+	@Test
+	void idsSortInIssueOrderEvenWithinOneMillisecond() {
+		var fixed = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+		var generator = new TimeOrderedIdGenerator(1, 10, fixed);
+
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(generator.next());
+		}
+
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void idsStayUniqueAcrossThreads() throws Exception {
+		var generator = new TimeOrderedIdGenerator(1, 10);
+		Set<String> all = ConcurrentHashMap.newKeySet();
+
+		try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 4; t++) {
+				futures.add(pool.submit(() -> {
+					Set<String> local = new HashSet<>();
+					for (int i = 0; i < 20_000; i++) {
+						local.add(generator.next());
+					}
+					all.addAll(local);
+				}));
+			}
+			for (Future<?> f : futures) f.get();
+		}
+
+		assertThat(all).hasSize(80_000);
+	}
+
+	@Test
+	void rejectsNodeIdThatDoesNotFit() {
+		assertThatThrownBy(() -> new TimeOrderedIdGenerator(1024, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,102 @@
+package com.eunseok.payment.infra.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Two independent Postgres containers stand in for primary and replica;
+ * current_database() tells which one served a statement.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+	@Container
+	static final PostgreSQLContainer primary = new PostgreSQLContainer(DockerImageName.parse("postgres:16"))
+			.withDatabaseName("primary_db");
+
+	@Container
+	static final PostgreSQLContainer replica = new PostgreSQLContainer(DockerImageName.parse("postgres:16"))
+			.withDatabaseName("replica_db");
+
+	private static HikariDataSource primaryPool;
+	private static HikariDataSource replicaPool;
+	private static JdbcTemplate jdbc;
+	private static TransactionTemplate readWrite;
+	private static TransactionTemplate readOnly;
+
+	@BeforeAll
+	static void setUp() {
+		primaryPool = pool(primary);
+		replicaPool = pool(replica);
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryPool);
+		dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryPool, Map.of("replica-0", replicaPool)));
+
+		jdbc = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		primaryPool.close();
+		replicaPool.close();
+	}
+
+	@Test
+	void readOnlyTransactionIsServedByReplica() {
+		assertThat(inTransaction(readOnly, ReplicaRoutingDataSourceTest::database)).isEqualTo("replica_db");
+	}
+
+	@Test
+	void readWriteTransactionAndPlainStatementsUsePrimary() {
+		assertThat(inTransaction(readWrite, ReplicaRoutingDataSourceTest::database)).isEqualTo("primary_db");
+		assertThat(database()).isEqualTo("primary_db");
+	}
+
+	@Test
+	void recentlyWrittenPaymentIsReadFromPrimary() {
+		var readYourWrites = new ReadYourWrites(new ReplicaProperties(
+				true, List.of(replica.getJdbcUrl()), null, null, 2, Duration.ofMinutes(1), 100));
+		readYourWrites.written("p-1");
+
+		assertThat(inTransaction(readOnly, () -> readYourWrites.read("p-1", ReplicaRoutingDataSourceTest::database)))
+				.isEqualTo("primary_db");
+		assertThat(inTransaction(readOnly, () -> readYourWrites.read("p-2", ReplicaRoutingDataSourceTest::database)))
+				.isEqualTo("replica_db");
+	}
+
+	private static String inTransaction(TransactionTemplate template, Supplier<String> query) {
+		return template.execute(tx -> query.get());
+	}
+
+	private static String database() {
+		return jdbc.queryForObject("SELECT current_database()", String.class);
+	}
+
+	private static HikariDataSource pool(PostgreSQLContainer container) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setJdbcUrl(container.getJdbcUrl());
+		pool.setUsername(container.getUsername());
+		pool.setPassword(container.getPassword());
+		pool.setMaximumPoolSize(2);
+		return pool;
+	}
+}